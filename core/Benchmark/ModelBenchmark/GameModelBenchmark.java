@@ -0,0 +1,263 @@
+package ModelBenchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import spaceInvaders.Model.Bullet;
+import spaceInvaders.Model.GameModel;
+import spaceInvaders.Model.OverflowPolicy;
+import spaceInvaders.Model.SimulationClock;
+import spaceInvaders.Model.Star;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JMH benchmark for a single simulation tick of the GameModel class in the Space Invaders game.
+ * Measures {@link GameModel#updateGame()} with a given number of bullets in flight, with or without a star,
+ * and with a given share of the bullets colliding on this tick.
+ *
+ * A tick takes well under a millisecond with few bullets, too short to restore the game before every invocation
+ * without the timestamps and the setup itself distorting the result. Instead the bullet population is built once per
+ * iteration and kept steady: bullets meant to hit are placed just short of a ship and hit on the next tick, the rest
+ * stream across open space, and every bullet removed by a tick is fired again from where it started. Each measured
+ * tick therefore sees the same number of bullets and the same share of hits, at the cost of also measuring the
+ * respawning, a few array writes per removed bullet. The ships start each iteration with enough lives that the
+ * game never ends. Run with {@code -prof gc} to report the allocation rate alongside the time per tick.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameModelBenchmark {
+    /**
+     * Time at which the star is shown, in milliseconds.
+     * Time at which the star has been hidden again, in milliseconds; the star stays visible for 20 seconds.
+     */
+    private static final long STAR_SHOWN_TIME = 0, STAR_HIDDEN_TIME = 20_000;
+
+    /**
+     * Lives given to each ship at the start of an iteration, more than the hits of any iteration can take away.
+     */
+    private static final int LIVES = 1_000_000_000;
+
+    /**
+     * The y-coordinate at which player bullets that hit are placed, so they move into the enemy on the next tick.
+     * The y-coordinate at which enemy bullets that hit are placed, so they move into the player on the next tick.
+     */
+    private static final int PLAYER_HIT_Y = 70, ENEMY_HIT_Y = 520;
+
+    /**
+     * The x-coordinate of the left edge of both ships, and the width of the range bullets that hit are spread over.
+     */
+    private static final int SHIP_LEFT = 440, SHIP_SPAN = 110;
+
+    /**
+     * The y-coordinate at which player bullets in open space start, at the bottom of the screen.
+     * The y-coordinate at which enemy bullets in open space start, at the top of the screen.
+     */
+    private static final int PLAYER_START_Y = 580, ENEMY_START_Y = 0;
+
+    /**
+     * Number of bullets in flight, split evenly between the player and the enemy.
+     */
+    @Param({"0", "100", "10000", "100000"})
+    public int bulletCount;
+
+    /**
+     * Whether a star is on screen for bullets to collide with.
+     */
+    @Param({"true", "false"})
+    public boolean starPresent;
+
+    /**
+     * Percentage of bullets that hit the enemy or the player on the measured tick.
+     */
+    @Param({"0", "10", "100"})
+    public int hitPercent;
+
+    /**
+     * Clock the benchmark sets by hand, so the star stays shown or hidden however many ticks are run.
+     */
+    private final ManualClock clock = new ManualClock();
+
+    /**
+     * The game model under test.
+     */
+    private GameModel model;
+
+    /**
+     * The x-coordinates at which player bullets cross open space, clear of the enemy and the star.
+     * The x-coordinates at which enemy bullets cross open space, clear of the player and the star.
+     */
+    private int[] playerLanes, enemyLanes;
+
+    /**
+     * The number of player bullets and of enemy bullets kept in flight.
+     */
+    private int playerBullets, enemyBullets;
+
+    /**
+     * Counts the bullets placed, to spread them over the lanes and over the width of the ships.
+     */
+    private int placed;
+
+    /**
+     * Default constructor for GameModelBenchmark.
+     */
+    public GameModelBenchmark() {
+        //Default constructor
+    }
+
+    /**
+     * Creates the model with room for every bullet and shows or hides the star.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        model = new GameModel(clock, new Random(42), Math.max(GameModel.DEFAULT_PROJECTILE_CAPACITY, bulletCount), OverflowPolicy.GROW);
+        clock.time = STAR_SHOWN_TIME;
+        model.updateGame(); // The first update shows the star
+        if (!starPresent) {
+            clock.time = STAR_HIDDEN_TIME;
+            model.updateGame();
+        }
+    }
+
+    /**
+     * Restores the game and builds the bullet population. Player bullets that hit are placed just below the enemy,
+     * enemy bullets that hit just above the player, and the rest spread over the height of the screen in open space,
+     * so about the same number reach the edge of the screen on every tick.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        model.resetGame();
+        model.getPlayer().increaseLives(LIVES);
+        model.getEnemy().increaseLives(LIVES);
+        playerLanes = openLanes(0, 300);
+        enemyLanes = openLanes(700, 980);
+        playerBullets = (bulletCount + 1) / 2;
+        enemyBullets = bulletCount / 2;
+        placed = 0;
+        for (int i = 0; i < bulletCount; i++) {
+            boolean hit = i % 100 < hitPercent;
+            int y = i * 37 % PLAYER_START_Y;
+            if (i % 2 == 0) {
+                model.spawnBullet(hit ? hitX() : playerLanes[placed++ % playerLanes.length], hit ? PLAYER_HIT_Y : y);
+            } else {
+                model.spawnEnemyBullet(hit ? hitX() : enemyLanes[placed++ % enemyLanes.length], hit ? ENEMY_HIT_Y : y);
+            }
+        }
+    }
+
+    /**
+     * Lists the x-coordinates in a range at which a bullet does not touch the star, if it is shown.
+     *
+     * @param from The first x-coordinate of the range.
+     * @param to   The x-coordinate after the last of the range.
+     * @return The x-coordinates clear of the star.
+     */
+    private int[] openLanes(int from, int to) {
+        Star star = model.getStar();
+        return IntStream.range(from, to)
+                .filter(x -> !starPresent || x + Bullet.WIDTH <= star.getX() || x >= star.getX() + Star.SIZE)
+                .toArray();
+    }
+
+    /**
+     * Picks the x-coordinate of the next bullet placed to hit a ship.
+     *
+     * @return An x-coordinate within the width of the ships.
+     */
+    private int hitX() {
+        return SHIP_LEFT + placed++ % SHIP_SPAN;
+    }
+
+    /**
+     * Closes the model.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        model.close();
+    }
+
+    /**
+     * Measures one simulation tick, followed by firing the bullets it removed again.
+     *
+     * @return The model, so the update cannot be optimised away.
+     */
+    @Benchmark
+    public GameModel updateGame() {
+        int enemyLives = model.getEnemyLives(), playerLives = model.getLifeCount();
+        model.updateGame();
+        respawn(enemyLives - model.getEnemyLives(), playerLives - model.getLifeCount());
+        return model;
+    }
+
+    /**
+     * Fires the bullets removed by a tick again. As many bullets are placed to hit as hit on the tick, which is the
+     * number of lives the ships lost, and the rest start crossing open space again from the edge of the screen.
+     *
+     * @param playerHits The number of player bullets that hit the enemy.
+     * @param enemyHits  The number of enemy bullets that hit the player.
+     */
+    private void respawn(int playerHits, int enemyHits) {
+        for (int i = model.getBullets().size(); i < playerBullets; i++) {
+            if (playerHits-- > 0) {
+                model.spawnBullet(hitX(), PLAYER_HIT_Y);
+            } else {
+                model.spawnBullet(playerLanes[placed++ % playerLanes.length], PLAYER_START_Y);
+            }
+        }
+        for (int i = model.getEnemyBullets().size(); i < enemyBullets; i++) {
+            if (enemyHits-- > 0) {
+                model.spawnEnemyBullet(hitX(), ENEMY_HIT_Y);
+            } else {
+                model.spawnEnemyBullet(enemyLanes[placed++ % enemyLanes.length], ENEMY_START_Y);
+            }
+        }
+    }
+
+    /**
+     * A simulation clock that only moves when the benchmark sets it.
+     */
+    static final class ManualClock implements SimulationClock {
+        /**
+         * The current time, in milliseconds.
+         */
+        long time;
+
+        /**
+         * Gets the time last set by the benchmark.
+         *
+         * @return The current time, in milliseconds.
+         */
+        @Override
+        public long currentTimeMillis() {
+            return time;
+        }
+
+        /**
+         * Does nothing; the benchmark sets the time directly.
+         */
+        @Override
+        public void tick() {
+            // Time only moves when the benchmark sets it.
+        }
+    }
+}
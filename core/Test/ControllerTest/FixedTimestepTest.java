@@ -0,0 +1,127 @@
+package ControllerTest;
+
+import spaceInvaders.Controller.FixedTimestep;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the FixedTimestep class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class FixedTimestepTest {
+    /**
+     * Length of one step at 100 steps per second, in nanoseconds.
+     */
+    private static final long STEP = 10_000_000L;
+
+    /**
+     * Time of the first frame in each test, in nanoseconds.
+     */
+    private static final long START = 5_000_000_000L;
+
+    /**
+     * Private field to hold a FixedTimestep object for testing.
+     */
+    private FixedTimestep timestep;
+
+    /**
+     * Default constructor for FixedTimestepTest.
+     * This constructor initializes the FixedTimestepTest class.
+     */
+    public FixedTimestepTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by initializing a timestep of 100 steps per second and at most 5 steps per frame.
+     */
+    @BeforeEach
+    public void setUp() {
+        timestep = new FixedTimestep(100, 5);
+    }
+
+    /**
+     * Tests that the first frame only records the time and runs no steps.
+     */
+    @Test
+    public void testFirstFrameRunsNoSteps() {
+        assertEquals(0, timestep.nanosUntilNextStep(START), "A step should be due before the first frame.");
+        assertEquals(0, timestep.advance(START), "The first frame should run no steps.");
+        assertEquals(STEP, timestep.nanosUntilNextStep(START), "The next step should be one step after the first frame.");
+        assertEquals(STEP, timestep.getStepNanos(), "A step should last a hundredth of a second.");
+    }
+
+    /**
+     * Tests that a normal frame runs the steps due and carries the remaining time into the next frame.
+     */
+    @Test
+    public void testStepsDueForNormalFrame() {
+        timestep.advance(START);
+        assertEquals(1, timestep.advance(START + STEP), "One step should be due after one step of time.");
+        assertEquals(2, timestep.advance(START + STEP * 7 / 2), "Two and a half steps of time should run two steps.");
+        assertEquals(STEP / 2, timestep.nanosUntilNextStep(START + STEP * 7 / 2), "Half a step should be carried over.");
+        assertEquals(1, timestep.advance(START + STEP * 4), "The carried time should count towards the next step.");
+    }
+
+    /**
+     * Tests that a frame shorter than a step runs no steps, and that its time is not lost.
+     */
+    @Test
+    public void testSubStepFrameRunsNoSteps() {
+        timestep.advance(START);
+        assertEquals(0, timestep.advance(START + STEP * 2 / 5), "A frame shorter than a step should run no steps.");
+        assertEquals(STEP * 3 / 5, timestep.nanosUntilNextStep(START + STEP * 2 / 5), "The frame's time should count towards the next step.");
+        assertEquals(1, timestep.advance(START + STEP), "Short frames should add up to a step.");
+    }
+
+    /**
+     * Tests that a long stall runs at most the maximum steps and drops the time it cannot catch up on.
+     */
+    @Test
+    public void testLongStallIsCapped() {
+        timestep.advance(START);
+        long stalled = START + 100 * STEP + STEP * 3 / 10;
+        assertEquals(5, timestep.advance(stalled), "A stall should run no more than the maximum steps.");
+        assertEquals(STEP * 7 / 10, timestep.nanosUntilNextStep(stalled), "Only the part of a step should be carried over.");
+        assertEquals(0, timestep.advance(stalled + STEP / 2), "The dropped time should not be caught up later.");
+        assertEquals(1, timestep.advance(stalled + STEP * 7 / 10), "Steps should resume at the normal rate.");
+    }
+
+    /**
+     * Tests that a frame at the same time, or at an earlier time, runs no steps and adds no time.
+     */
+    @Test
+    public void testTimeNotMovingForward() {
+        timestep.advance(START);
+        timestep.advance(START + STEP / 2);
+        assertEquals(0, timestep.advance(START + STEP / 2), "No time passing should run no steps.");
+        assertEquals(0, timestep.advance(START - STEP * 20), "Time going backwards should run no steps.");
+        assertEquals(STEP / 2, timestep.nanosUntilNextStep(START - STEP * 20), "Time going backwards should not change the time carried over.");
+        assertEquals(1, timestep.advance(START - STEP * 20 + STEP / 2), "Time should be measured again from the earlier time.");
+    }
+
+    /**
+     * Tests that resetting forgets the carried time and treats the next frame as the first.
+     */
+    @Test
+    public void testReset() {
+        timestep.advance(START);
+        timestep.advance(START + STEP / 2);
+        timestep.reset();
+        assertEquals(0, timestep.advance(START + STEP * 10), "The first frame after a reset should run no steps.");
+        assertEquals(STEP, timestep.nanosUntilNextStep(START + STEP * 10), "No time should be carried over a reset.");
+    }
+
+    /**
+     * Tests that invalid rates are rejected.
+     */
+    @Test
+    public void testInvalidConstructorArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, 5), "Steps per second must be positive.");
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(60, 0), "Max steps per frame must be positive.");
+    }
+}
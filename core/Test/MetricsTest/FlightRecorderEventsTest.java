@@ -0,0 +1,127 @@
+package MetricsTest;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import spaceInvaders.Model.Enemy;
+import spaceInvaders.Model.GameModel;
+import spaceInvaders.Model.TickClock;
+import spaceInvaders.Simulation.HeadlessRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the Java Flight Recorder events emitted by the Space Invaders game model.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class FlightRecorderEventsTest {
+
+    /**
+     * Private field to hold a GameModel object for testing.
+     */
+    private GameModel gameModel;
+
+    /**
+     * Default constructor for FlightRecorderEventsTest.
+     * This constructor initializes the FlightRecorderEventsTest class.
+     */
+    public FlightRecorderEventsTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by creating a model driven by a tick clock.
+     */
+    @BeforeEach
+    public void setUp() {
+        gameModel = new GameModel(new TickClock(), new Random(1));
+    }
+
+    /**
+     * Closes the model after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        gameModel.close();
+    }
+
+    /**
+     * Tests that a recording receives one tick event per update, and events for collisions and the star.
+     *
+     * @throws IOException If the recording cannot be written or read.
+     */
+    @Test
+    public void testEventsRecorded() throws IOException {
+        Path file = Files.createTempFile("spaceInvaders", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("spaceInvaders.Tick");
+            recording.enable("spaceInvaders.Collision");
+            recording.enable("spaceInvaders.Star");
+            recording.start();
+
+            Enemy enemy = gameModel.getEnemy();
+            gameModel.updateGame();
+            gameModel.spawnBullet(enemy.getX(), enemy.getY() + 40);
+            for (int tick = 0; tick < 99; tick++) {
+                gameModel.updateGame();
+            }
+
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(100, count(events, "spaceInvaders.Tick"), "Every update should emit a tick event.");
+            assertEquals(1, count(events, "spaceInvaders.Collision"), "The bullet hitting the enemy should emit a collision event.");
+            assertTrue(count(events, "spaceInvaders.Star") >= 1, "The star appearing should emit a star event.");
+
+            RecordedEvent collision = events.stream().filter(e -> e.getEventType().getName().equals("spaceInvaders.Collision")).findFirst().orElseThrow();
+            assertEquals("player", collision.getString("shooter"), "The player fired the bullet.");
+            assertEquals("enemy", collision.getString("target"), "The bullet hit the enemy.");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that a run without a recording never loads the event classes, since loading one starts up
+     * Java Flight Recorder. The run is made in a fresh JVM because a recording started by another test
+     * leaves the recorder running in this one.
+     *
+     * @throws IOException          If the runner cannot be started or its output cannot be read.
+     * @throws InterruptedException If the test is interrupted while waiting for the runner.
+     */
+    @Test
+    public void testEventClassesNotLoadedWithoutRecording() throws IOException, InterruptedException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-verbose:class", "-cp", System.getProperty("java.class.path"),
+                HeadlessRunner.class.getName(), "--ticks", "20000", "--seed", "1").redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        assertEquals(0, process.waitFor(), "The headless run should succeed.");
+        assertTrue(output.contains("spaceInvaders.Model.GameModel "), "The run should load the game model.");
+        assertFalse(Pattern.compile("spaceInvaders\\.Metrics\\.\\w+Event ").matcher(output).find(), "No event class should be loaded without a recording.");
+    }
+
+    /**
+     * Counts the events of a type.
+     *
+     * @param events The recorded events.
+     * @param name   The name of the event type.
+     * @return The number of events of the type.
+     */
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+}
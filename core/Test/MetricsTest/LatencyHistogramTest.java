@@ -0,0 +1,134 @@
+package MetricsTest;
+
+import spaceInvaders.Metrics.LatencyHistogram;
+import spaceInvaders.Metrics.Phase;
+import spaceInvaders.Metrics.PhaseMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the LatencyHistogram and PhaseMetrics classes in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Private field to hold a LatencyHistogram object for testing.
+     */
+    private LatencyHistogram histogram;
+
+    /**
+     * Default constructor for LatencyHistogramTest.
+     * This constructor initializes the LatencyHistogramTest class.
+     */
+    public LatencyHistogramTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by initializing an empty histogram.
+     */
+    @BeforeEach
+    public void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    /**
+     * Tests that small values are counted exactly.
+     */
+    @Test
+    public void testSmallValuesExact() {
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getCount(), "Every value should be counted.");
+        assertEquals(5, histogram.getPercentile(50), "Median of 1 to 10 should be 5.");
+        assertEquals(10, histogram.getPercentile(100), "Maximum percentile should be the largest value.");
+        assertEquals(1, histogram.getMin(), "Smallest value should be tracked.");
+        assertEquals(5.5, histogram.getMean(), 1e-9, "Mean should be exact.");
+    }
+
+    /**
+     * Tests that percentiles of large values are within the histogram's precision.
+     */
+    @Test
+    public void testLargeValuePrecision() {
+        for (long value = 1_000; value <= 1_000_000; value += 1_000) {
+            histogram.record(value);
+        }
+        long median = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(median >= 500_000 && median <= 500_000 * 1.07, "Median should be within 7% above the true value.");
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "99th percentile should be within precision and capped at the maximum.");
+        assertEquals(1_000_000, histogram.getMax(), "Largest value should be tracked exactly.");
+    }
+
+    /**
+     * Tests that extreme values can be recorded and reset clears the histogram.
+     */
+    @Test
+    public void testExtremesAndReset() {
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+        assertEquals(0, histogram.getMin(), "Negative values should be recorded as zero.");
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100), "Largest possible value should be recorded.");
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount(), "Reset histogram should be empty.");
+        assertEquals(0, histogram.getPercentile(50), "Empty histogram should report zero.");
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    /**
+     * Tests that recording allocates nothing.
+     * The measurement is repeated and the smallest result is checked, because the JVM itself may allocate on the
+     * thread while it is still compiling; an allocation in the histogram would show up in every round.
+     */
+    @Test
+    public void testRecordAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        recordValues(1_000_000); // Warm up: let the JIT compile the recording
+        threads.getCurrentThreadAllocatedBytes();
+        long fewest = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            recordValues(100_000);
+            fewest = Math.min(fewest, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        assertEquals(0, fewest, "Recording should not allocate.");
+    }
+
+    /**
+     * Records a spread of values into the histogram.
+     *
+     * @param values The number of values to record.
+     */
+    private void recordValues(int values) {
+        for (int i = 0; i < values; i++) {
+            histogram.record(i * 37L);
+        }
+    }
+
+    /**
+     * Tests that the report lists only the phases that were recorded.
+     */
+    @Test
+    public void testReport() {
+        PhaseMetrics metrics = new PhaseMetrics();
+        metrics.record(Phase.TICK, 2_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        metrics.writeReport(new PrintStream(bytes, true));
+
+        String report = bytes.toString();
+        assertTrue(report.contains("TICK"), "Recorded phase should be reported.");
+        assertTrue(report.contains("p99.9"), "Report should show the percentiles.");
+        assertFalse(report.contains("RENDER"), "Phases with no values should be left out.");
+    }
+}
@@ -0,0 +1,90 @@
+package MetricsTest;
+
+import spaceInvaders.Metrics.StartupTimeline;
+import spaceInvaders.Metrics.StartupTimeline.Mark;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the StartupTimeline class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class StartupTimelineTest {
+
+    /**
+     * Private field to hold a StartupTimeline object for testing.
+     */
+    private StartupTimeline timeline;
+
+    /**
+     * Default constructor for StartupTimelineTest.
+     * This constructor initializes the StartupTimelineTest class.
+     */
+    public StartupTimelineTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by initializing an empty timeline.
+     */
+    @BeforeEach
+    public void setUp() {
+        timeline = new StartupTimeline();
+    }
+
+    /**
+     * Tests that a mark is recorded the first time only, and that marks follow the clock.
+     */
+    @Test
+    public void testMarkRecordedOnce() {
+        assertEquals(0, timeline.getEpochMicros(Mark.MAIN), "A mark should be unset before it is recorded.");
+        assertTrue(timeline.mark(Mark.MAIN), "The first mark should be recorded.");
+        long main = timeline.getEpochMicros(Mark.MAIN);
+        assertFalse(timeline.mark(Mark.MAIN), "A repeated mark should be ignored.");
+        assertEquals(main, timeline.getEpochMicros(Mark.MAIN), "A repeated mark should not move the recorded time.");
+
+        timeline.mark(Mark.MODEL_CONSTRUCTED);
+        assertTrue(timeline.getEpochMicros(Mark.MODEL_CONSTRUCTED) >= main, "Later marks should not come before earlier ones.");
+        assertTrue(Math.abs(main / 1000 - System.currentTimeMillis()) < 60_000, "Marks should be in microseconds since the epoch.");
+    }
+
+    /**
+     * Tests that a report can be parsed back, including the JVM start, and leaves out unrecorded marks.
+     */
+    @Test
+    public void testReportRoundTrip() {
+        timeline.mark(Mark.MAIN, 1_000_000);
+        timeline.mark(Mark.FIRST_TICK, 1_250_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        timeline.writeReport(new PrintStream(bytes, true));
+        String line = bytes.toString().trim();
+
+        assertTrue(line.startsWith(StartupTimeline.REPORT_PREFIX), "The report should start with its prefix.");
+        Map<Mark, Long> marks = StartupTimeline.parse(line);
+        assertEquals(3, marks.size(), "The report should hold the recorded marks and the JVM start.");
+        assertEquals(1_000_000L, marks.get(Mark.MAIN), "The main mark should round-trip.");
+        assertEquals(1_250_000L, marks.get(Mark.FIRST_TICK), "The first tick mark should round-trip.");
+        assertTrue(marks.get(Mark.JVM_START) > 0, "The JVM start should be reported.");
+        assertFalse(marks.containsKey(Mark.FIRST_FRAME), "Unrecorded marks should be left out.");
+    }
+
+    /**
+     * Tests that invalid times and malformed reports are rejected.
+     */
+    @Test
+    public void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> timeline.mark(Mark.MAIN, 0), "Times must be positive.");
+        assertThrows(IllegalArgumentException.class, () -> StartupTimeline.parse("timeline main=1"), "Lines without the prefix should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> StartupTimeline.parse(StartupTimeline.REPORT_PREFIX + " main"), "Marks need a value.");
+        assertThrows(IllegalArgumentException.class, () -> StartupTimeline.parse(StartupTimeline.REPORT_PREFIX + " lunch=5"), "Unknown marks should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> StartupTimeline.parse(StartupTimeline.REPORT_PREFIX + " main=soon"), "Values must be numbers.");
+    }
+}
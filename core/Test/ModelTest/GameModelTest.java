@@ -1,13 +1,17 @@
 package ModelTest;
 
 import org.junit.jupiter.api.AfterEach;
+import spaceInvaders.Metrics.Phase;
+import spaceInvaders.Metrics.PhaseMetrics;
 import spaceInvaders.Model.*;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
-import java.lang.reflect.Field;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,6 +39,11 @@ public class GameModelTest {
      */
     private GameModel gameModel;
 
+    /**
+     * Private field to count the firing ticks run on the game model in the current test.
+     */
+    private int firingTicks;
+
 
     /**
      * Sets up the test environment by initializing the GameModel.
@@ -51,6 +60,7 @@ public class GameModelTest {
     @AfterEach
     void tearDown() {
         // Clean up resources if needed
+        gameModel.close();
         gameModel = null; // Set gameModel to null to release resources
     }
 
@@ -147,6 +157,155 @@ public class GameModelTest {
         assertNotNull(gameModel.isGameOver(), "Game update should not result in a null game over state.");
     }
 
+    /**
+     * Tests that a player bullet is fully resolved by the game update.
+     *
+     * This method shoots a bullet straight up at the enemy and updates the game until the bullet has had time to
+     * leave the screen. The bullet must be gone, and it must have either hit the enemy (enemy loses a life and the
+     * player scores 50) or been intercepted by the star (player gains 2 lives).
+     */
+    @Test
+    void updateGameResolvesPlayerBullet() {
+        gameModel.shootBullet();
+        for (int i = 0; i < 100; i++) {
+            gameModel.updateGame();
+        }
+
+        assertTrue(gameModel.getBullets().isEmpty(), "Bullet should be removed after hitting or leaving the screen.");
+        boolean hitEnemy = gameModel.getEnemyLives() == 9 && gameModel.getScore() == 50;
+        boolean hitStar = gameModel.getLifeCount() == 12 && gameModel.getEnemyLives() == 10;
+        assertTrue(hitEnemy || hitStar, "Bullet fired at the enemy should hit the enemy or the star in its path.");
+    }
+
+    /**
+     * Tests that a running match allocates nothing per game update once it has warmed up.
+     *
+     * This method keeps both sides firing every tick so that bullets are constantly added, moved, culled and
+     * recycled, then uses the thread allocation counter to check that a long run of updates allocates no memory.
+     * The bullets are fired down the left edge so they never hit a ship and the match cannot end.
+     */
+    @Test
+    void updateGameAllocatesNothingInSteadyState() {
+        gameModel = new GameModel(new TickClock(), new Random(0), 128, OverflowPolicy.DROP_NEWEST);
+
+        runFiringTicks(50_000); // Warm up: fill the bullet slots and let the JIT compile the update
+        long allocated = measureSteadyStateAllocation(10_000);
+
+        assertFalse(gameModel.isGameOver(), "Bullets along the edge should not end the match.");
+        assertFalse(gameModel.getBullets().isEmpty(), "Bullets should be in flight during the measurement.");
+        assertEquals(0, allocated, "Game updates should not allocate once the match has warmed up.");
+    }
+
+    /**
+     * Tests that timing the update phases adds no allocation to the steady-state update.
+     */
+    @Test
+    void timedUpdateGameAllocatesNothingInSteadyState() {
+        gameModel = new GameModel(new TickClock(), new Random(0), 128, OverflowPolicy.DROP_NEWEST);
+        PhaseMetrics metrics = new PhaseMetrics();
+        gameModel.setMetrics(metrics);
+
+        runFiringTicks(50_000);
+        long allocated = measureSteadyStateAllocation(10_000);
+
+        assertEquals(firingTicks, metrics.getHistogram(Phase.TICK).getCount(), "Every update should be timed.");
+        assertEquals(firingTicks, metrics.getHistogram(Phase.UPDATE_BULLETS).getCount(), "Every bullet pass should be timed.");
+        assertEquals(0, allocated, "Timed game updates should not allocate once the match has warmed up.");
+    }
+
+    /**
+     * Measures the memory allocated by the current thread over a window of firing ticks.
+     *
+     * HotSpot does some of its own work on the thread that runs the code: when a compiled update meets a branch
+     * it has never taken it falls back to the interpreter and asks for a recompile, and that bookkeeping can
+     * allocate a few bytes that the thread counter charges to the test. A window is only
+     * accepted if the JIT compiler stayed idle through it and through a short run afterwards, since a
+     * recompile always follows such a fallback. Any allocation in an accepted window comes from the game itself.
+     *
+     * @param ticks The number of game updates in the window.
+     * @return The bytes allocated during the last window measured.
+     */
+    private long measureSteadyStateAllocation(int ticks) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        long allocated = 0;
+        for (int attempt = 0; attempt < 10; attempt++) {
+            long compileTime = compiler.getTotalCompilationTime();
+            threads.getCurrentThreadAllocatedBytes();
+            long before = threads.getCurrentThreadAllocatedBytes();
+            runFiringTicks(ticks);
+            allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            runFiringTicks(1_000); // Gives a recompile requested late in the window time to finish
+            if (compiler.getTotalCompilationTime() == compileTime) break;
+        }
+        return allocated;
+    }
+
+    /**
+     * Fires one bullet for each side along the left edge of the screen and updates the game, the given number of times.
+     *
+     * @param ticks The number of game updates to run.
+     */
+    private void runFiringTicks(int ticks) {
+        firingTicks += ticks;
+        for (int i = 0; i < ticks; i++) {
+            gameModel.spawnBullet(0, 500);
+            gameModel.spawnEnemyBullet(0, 100);
+            gameModel.updateGame();
+        }
+    }
+
+    /**
+     * Tests that the shot cooldown is measured in simulation time.
+     *
+     * This method fires twice without updating the game and checks that the second shot is blocked, then advances
+     * the simulation by half a second of ticks and checks that the player can fire again.
+     */
+    @Test
+    void shotCooldownFollowsSimulationClock() {
+        TickClock clock = new TickClock();
+        gameModel = new GameModel(clock, new Random(1));
+
+        gameModel.shootBullet();
+        gameModel.shootBullet();
+        assertEquals(1, gameModel.getBullets().size(), "Second shot should be blocked by the cooldown.");
+
+        for (int i = 0; i < 29; i++) { // 29 ticks at 60 ticks per second is 483 milliseconds
+            gameModel.updateGame();
+        }
+        gameModel.shootBullet();
+        assertEquals(1, gameModel.getBullets().size(), "Shot should still be blocked before the cooldown has passed.");
+
+        gameModel.updateGame();
+        gameModel.shootBullet();
+        assertEquals(2, gameModel.getBullets().size(), "Player should be able to fire again once the cooldown has passed.");
+    }
+
+    /**
+     * Tests that two models with the same clock type and seed play out the same match.
+     *
+     * This method runs two equally seeded models through enough updates for the star to appear and move several times,
+     * firing from both sides, and checks that scores, lives and star positions match throughout.
+     */
+    @Test
+    void sameSeedGivesSameMatch() {
+        GameModel first = new GameModel(new TickClock(), new Random(42));
+        GameModel second = new GameModel(new TickClock(), new Random(42));
+
+        for (int tick = 0; tick < 10_000; tick++) {
+            for (GameModel model : new GameModel[]{first, second}) {
+                model.moveEnemy(tick % 200 < 100 ? 1 : -1, 0);
+                model.shootBullet();
+                model.shootEnemyBullet();
+                model.updateGame();
+            }
+            assertEquals(first.isStarExists(), second.isStarExists(), "Star presence should match at tick " + tick);
+            assertEquals(first.getStar().getX(), second.getStar().getX(), "Star position should match at tick " + tick);
+            assertEquals(first.getScore(), second.getScore(), "Player score should match at tick " + tick);
+            assertEquals(first.getEnemyLives(), second.getEnemyLives(), "Enemy lives should match at tick " + tick);
+        }
+    }
+
     /**
      * Tests the game reset mechanism.
      *
@@ -329,16 +488,15 @@ public class GameModelTest {
     @Test
     void testHandleBulletEnemyCollision() throws Exception {
         // Setup
-        Bullet bullet = new Bullet(100, 100); // Adjust coordinates accordingly
         int initialEnemyLives = gameModel.getEnemy().getLives();
         int initialPlayerScore = gameModel.getPlayer().getScore();
 
         // Using reflection to access the private method
-        Method method = GameModel.class.getDeclaredMethod("handleBulletEnemyCollision", Bullet.class);
+        Method method = GameModel.class.getDeclaredMethod("handleBulletEnemyCollision");
         method.setAccessible(true);
 
         // Invoke the method
-        method.invoke(gameModel, bullet);
+        method.invoke(gameModel);
 
         // Assert
         assertEquals(initialEnemyLives - 1, gameModel.getEnemy().getLives(), "Enemy lives should decrease by 1.");
@@ -356,15 +514,14 @@ public class GameModelTest {
      */
     @Test
     void testHandleBulletStarCollision() throws Exception {
-        Bullet bullet = new Bullet(100, 100); // Adjust coordinates accordingly
         int initialPlayerLives = gameModel.getPlayer().getLives();
 
         // Access the private method using reflection
-        Method method = GameModel.class.getDeclaredMethod("handleBulletStarCollision", Bullet.class);
+        Method method = GameModel.class.getDeclaredMethod("handleBulletStarCollision");
         method.setAccessible(true);
 
         // Invoke the method
-        method.invoke(gameModel, bullet);
+        method.invoke(gameModel);
 
         // Assertions
         assertEquals(initialPlayerLives + 2, gameModel.getPlayer().getLives(), "Player lives should increase by 2.");
@@ -373,27 +530,17 @@ public class GameModelTest {
 
 
     /**
-     * Tests the collision check between a bullet and an enemy using reflection.
-     *
-     * This method sets up the scenario of a bullet colliding with an enemy, invokes the private method
-     * "checkCollision" with Bullet and Enemy parameters using reflection, and asserts that the collision
-     * check returns true as expected.
+     * Tests the collision check between a bullet and an enemy.
      *
-     * @throws Exception if there's an issue with reflection or method invocation.
+     * This method sets up the scenario of a bullet colliding with an enemy and asserts that the shared
+     * bounding box test reports the collision as expected.
      */
     @Test
-    void testCheckCollisionBulletEnemy() throws Exception {
+    void testCheckCollisionBulletEnemy() {
         Bullet bullet = new Bullet(gameModel.getEnemy().getX(), gameModel.getEnemy().getY());
 
-        // Access the private method using reflection
-        Method method = GameModel.class.getDeclaredMethod("checkCollision", Bullet.class, Enemy.class);
-        method.setAccessible(true);
-
-        // Invoke the method and get the result
-        boolean result = (boolean) method.invoke(gameModel, bullet, gameModel.getEnemy());
-
         // Assertions
-        assertTrue(result, "Bullet should collide with Enemy.");
+        assertTrue(checkCollision(bullet, gameModel.getEnemy()), "Bullet should collide with Enemy.");
     }
 
     /**
@@ -407,16 +554,15 @@ public class GameModelTest {
      */
     @Test
     void testHandleBulletPlayerCollision() throws Exception {
-        EnemyBullet bullet = new EnemyBullet(100, 100); // Adjust coordinates accordingly
         int initialPlayerLives = gameModel.getPlayer().getLives();
         int initialEnemyScore = gameModel.getEnemy().getScore();
 
         // Access the private method using reflection
-        Method method = GameModel.class.getDeclaredMethod("handleBulletPlayerCollision", EnemyBullet.class);
+        Method method = GameModel.class.getDeclaredMethod("handleBulletPlayerCollision");
         method.setAccessible(true);
 
         // Invoke the method
-        method.invoke(gameModel, bullet);
+        method.invoke(gameModel);
 
         // Assertions
         assertEquals(initialPlayerLives - 1, gameModel.getPlayer().getLives(), "Player lives should decrease by 1.");
@@ -427,22 +573,21 @@ public class GameModelTest {
      * Tests the handling of enemy bullet-star collision using reflection.
      *
      * This method sets up the scenario of an enemy bullet colliding with a star, invokes the private method
-     * "handleBulletStarCollision" using reflection, and asserts that the enemy's lives increase by 1
+     * "handleEnemyBulletStarCollision" using reflection, and asserts that the enemy's lives increase by 1
      * and the star no longer exists as expected.
      *
      * @throws Exception if there's an issue with reflection or method invocation.
      */
     @Test
     void testHandleBulletStarCollisionEnemyBullet() throws Exception {
-        EnemyBullet bullet = new EnemyBullet(100, 100); // Adjust coordinates accordingly
         int initialEnemyLives = gameModel.getEnemy().getLives();
 
         // Access the private method using reflection
-        Method method = GameModel.class.getDeclaredMethod("handleBulletStarCollision", EnemyBullet.class);
+        Method method = GameModel.class.getDeclaredMethod("handleEnemyBulletStarCollision");
         method.setAccessible(true);
 
         // Invoke the method
-        method.invoke(gameModel, bullet);
+        method.invoke(gameModel);
 
         // Assertions
         assertEquals(initialEnemyLives + 2, gameModel.getEnemy().getLives(), "Enemy lives should increase by 2.");
@@ -451,128 +596,151 @@ public class GameModelTest {
 
 
     /**
-     * Tests the collision check between an enemy bullet and the player using reflection.
+     * Tests the collision check between an enemy bullet and the player.
      *
-     * This method sets up the scenario of an enemy bullet colliding with the player, invokes the private method
-     * "checkCollision" with EnemyBullet and Player parameters using reflection, and asserts that the collision
-     * check returns true as expected.
-     *
-     * @throws Exception if there's an issue with reflection or method invocation.
+     * This method sets up the scenario of an enemy bullet colliding with the player and asserts that the shared
+     * bounding box test reports the collision as expected.
      */
     @Test
-    void testCheckCollisionEnemyBulletPlayer() throws Exception {
+    void testCheckCollisionEnemyBulletPlayer() {
         EnemyBullet bullet = new EnemyBullet(gameModel.getPlayer().getX(), gameModel.getPlayer().getY());
 
-        // Access the private method using reflection
-        Method method = GameModel.class.getDeclaredMethod("checkCollision", EnemyBullet.class, Player.class);
-        method.setAccessible(true);
-
-        // Invoke the method and get the result
-        boolean result = (boolean) method.invoke(gameModel, bullet, gameModel.getPlayer());
-
         // Assertions
-        assertTrue(result, "Enemy Bullet should collide with Player.");
+        assertTrue(checkCollision(bullet, gameModel.getPlayer()), "Enemy Bullet should collide with Player.");
     }
 
     /**
-     * Tests the collision check between a bullet and a star using reflection.
+     * Tests the collision check between a bullet and a star.
      *
-     * This method sets up the scenario of a bullet colliding with a star, invokes the private method
-     * "checkCollision" with Bullet and Star parameters using reflection, and asserts that the collision
-     * check returns true as expected.
-     *
-     * @throws Exception if there's an issue with reflection or method invocation.
+     * This method sets up the scenario of a bullet colliding with a star and asserts that the shared
+     * bounding box test reports the collision, then checks that a bullet clear of the star does not collide.
      */
     @Test
-    void testCheckCollisionBulletStar() throws Exception {
+    void testCheckCollisionBulletStar() {
         // Create a star object
         Star star = new Star(100, 100);
 
         // Create a bullet that collides with the star
         Bullet collidingBullet = new Bullet(star.getX(), star.getY());
-
-        // Access the private method using reflection
-        Method checkCollision = GameModel.class.getDeclaredMethod("checkCollision", Bullet.class, Star.class);
-        checkCollision.setAccessible(true);
-
-        // Invoke the method and assert true for collision
-        boolean result = (boolean) checkCollision.invoke(gameModel, collidingBullet, star);
-        assertTrue(result, "Bullet should collide with Star.");
+        assertTrue(checkCollision(collidingBullet, star), "Bullet should collide with Star.");
 
         // Create a bullet that does not collide with the star
         Bullet nonCollidingBullet = new Bullet(star.getX() + Star.SIZE + 10, star.getY() + Star.SIZE + 10);
-
-        // Invoke the method again and assert false for no collision
-        result = (boolean) checkCollision.invoke(gameModel, nonCollidingBullet, star);
-        assertFalse(result, "Bullet should not collide with Star when they do not overlap.");
+        assertFalse(checkCollision(nonCollidingBullet, star), "Bullet should not collide with Star when they do not overlap.");
     }
 
 
 
     /**
-     * Tests the collision check between an enemy bullet and a star using reflection.
+     * Tests the collision check between an enemy bullet and a star.
      *
-     * This method sets up the scenario of an enemy bullet colliding with a star, invokes the private method
-     * "checkCollision" with EnemyBullet and Star parameters using reflection, and asserts that the collision
-     * check returns true as expected.
-     *
-     * @throws Exception if there's an issue with reflection or method invocation.
+     * This method sets up the scenario of an enemy bullet colliding with a star and asserts that the shared
+     * bounding box test reports the collision, then checks that a bullet clear of the star does not collide.
      */
     @Test
-    void testCheckCollisionEnemyBulletStar() throws Exception {
+    void testCheckCollisionEnemyBulletStar() {
         // Create a star object
         Star star = new Star(100, 100);
 
         // Create an enemy bullet that collides with the star
         EnemyBullet collidingBullet = new EnemyBullet(star.getX(), star.getY());
-
-        // Access the private method using reflection
-        Method checkCollision = GameModel.class.getDeclaredMethod("checkCollision", EnemyBullet.class, Star.class);
-        checkCollision.setAccessible(true);
-
-        // Invoke the method and assert true for collision
-        boolean result = (boolean) checkCollision.invoke(gameModel, collidingBullet, star);
-        assertTrue(result, "Enemy bullet should collide with Star.");
+        assertTrue(checkCollision(collidingBullet, star), "Enemy bullet should collide with Star.");
 
         // Create an enemy bullet that does not collide with the star
         EnemyBullet nonCollidingBullet = new EnemyBullet(star.getX() + Star.SIZE + 10, star.getY() + Star.SIZE + 10);
+        assertFalse(checkCollision(nonCollidingBullet, star), "Enemy bullet should not collide with Star when they do not overlap.");
+    }
 
-        // Invoke the method again and assert false for no collision
-        result = (boolean) checkCollision.invoke(gameModel, nonCollidingBullet, star);
-        assertFalse(result, "Enemy bullet should not collide with Star when they do not overlap.");
+    /**
+     * Checks two entities for a collision using the bounding box test shared by all entity types.
+     *
+     * @param bullet The bullet to check for collision.
+     * @param target The entity to check for collision with.
+     * @return true if the bullet has collided with the target, false otherwise.
+     */
+    private boolean checkCollision(Collidable bullet, Collidable target) {
+        return target.isHit(bullet.getX(), bullet.getY(), bullet.getWidth(), bullet.getHeight());
     }
 
 
     /**
-     * Tests the interruption behavior of the star update thread in the GameModel.
-     *
-     * This test method uses reflection to access and invoke the private method 'startStarUpdateThread' of the GameModel class.
-     * It then retrieves the 'starUpdateThread' via reflection to test its interrupt behavior.
+     * Tests that creating game models does not start any threads.
      *
-     * The method first invokes 'startStarUpdateThread' to initiate the star update process.
-     * Then it accesses the private 'starUpdateThread' field from the GameModel instance.
-     * After obtaining the thread, the method interrupts it and asserts whether the thread's interrupt flag is set.
-     * This is crucial to ensure that the thread can handle interruptions properly,
-     * which is a significant aspect of responsive and resilient multithreaded applications.
+     * The star is driven by the game update, so constructing many models for headless simulation must not leave
+     * any background threads behind.
+     */
+    @Test
+    public void testNoThreadsStarted() {
+        ThreadGroup group = Thread.currentThread().getThreadGroup();
+        int threadsBefore = group.activeCount();
+
+        for (int i = 0; i < 100; i++) {
+            new GameModel().close();
+        }
+
+        assertTrue(group.activeCount() <= threadsBefore, "Creating game models should not start any threads.");
+    }
+
+    /**
+     * Tests that a closed model no longer updates.
      *
-     * @throws Exception if any reflection-based operation fails, such as method invocation or field access.
+     * This method fires a bullet, closes the model and checks that the bullets and star are gone and that
+     * further updates do not bring the star back.
      */
     @Test
-    public void testStarUpdateThreadInterruption() throws Exception {
+    void testClose() {
+        gameModel.shootBullet();
+        gameModel.updateGame();
+        assertTrue(gameModel.isStarExists(), "Star should appear on the first update.");
 
-        // Access the startStarUpdateThread method using reflection
-        Method startMethod = GameModel.class.getDeclaredMethod("startStarUpdateThread");
-        startMethod.setAccessible(true);
-        startMethod.invoke(gameModel);
+        gameModel.close();
+        gameModel.updateGame();
 
-        // Access the starUpdateThread field using reflection
-        Field threadField = GameModel.class.getDeclaredField("starUpdateThread");
-        threadField.setAccessible(true);
-        Thread starUpdateThread = (Thread) threadField.get(gameModel);
+        assertTrue(gameModel.getBullets().isEmpty(), "Closing the model should remove the bullets.");
+        assertFalse(gameModel.isStarExists(), "Closing the model should remove the star.");
+    }
+
+    /**
+     * Tests that a snapshot holds a copy of the game state that does not change with the model.
+     */
+    @Test
+    void testWriteSnapshot() {
+        gameModel.spawnBullet(100, 300);
+        gameModel.spawnEnemyBullet(200, 100);
+        gameModel.updateGame();
+
+        GameSnapshot snapshot = new GameSnapshot();
+        gameModel.writeSnapshot(snapshot);
 
-        // Test the interruption
-        starUpdateThread.interrupt();
-        assertTrue(starUpdateThread.isInterrupted(), "Star update thread should be interrupted.");
+        assertEquals(gameModel.getPlayer().getX(), snapshot.getPlayerX(), "Snapshot should hold the player position.");
+        assertEquals(gameModel.getEnemy().getY(), snapshot.getEnemyY(), "Snapshot should hold the enemy position.");
+        assertEquals(gameModel.getLifeCount(), snapshot.getLifeCount(), "Snapshot should hold the player lives.");
+        assertTrue(snapshot.isStarExists(), "Snapshot should hold the star.");
+        assertEquals(gameModel.getStar().getX(), snapshot.getStarX(), "Snapshot should hold the star position.");
+        assertEquals(1, snapshot.getBulletCount(), "Snapshot should hold the player bullets.");
+        assertEquals(100, snapshot.getBulletX(0), "Snapshot should hold the bullet position.");
+        assertEquals(300 - Bullet.SPEED, snapshot.getBulletY(0), "Snapshot should hold the moved bullet position.");
+        assertEquals(1, snapshot.getEnemyBulletCount(), "Snapshot should hold the enemy bullets.");
+
+        gameModel.updateGame();
+        assertEquals(300 - Bullet.SPEED, snapshot.getBulletY(0), "Snapshot should not change when the model updates.");
+    }
+
+    /**
+     * Tests that a snapshot copies bullet positions in bulk and copies only as many as fit in a short array.
+     */
+    @Test
+    void testSnapshotCopyBulletPositions() {
+        gameModel.spawnBullet(100, 300);
+        gameModel.spawnBullet(200, 400);
+        GameSnapshot snapshot = new GameSnapshot();
+        gameModel.writeSnapshot(snapshot);
+
+        int[] positions = new int[4];
+        assertEquals(2, snapshot.copyBulletPositions(positions), "All bullets should be copied.");
+        assertArrayEquals(new int[]{100, 300, 200, 400}, positions, "Positions should be copied as x and y pairs.");
+        assertEquals(1, snapshot.copyBulletPositions(new int[3]), "Only the bullets that fit should be copied.");
+        assertEquals(0, snapshot.copyEnemyBulletPositions(positions), "There should be no enemy bullets to copy.");
     }
 
     /**
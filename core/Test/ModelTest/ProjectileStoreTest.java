@@ -0,0 +1,219 @@
+package ModelTest;
+
+import spaceInvaders.Model.Bullet;
+import spaceInvaders.Model.OverflowPolicy;
+import spaceInvaders.Model.ProjectileStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the ProjectileStore class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class ProjectileStoreTest {
+
+    /**
+     * Private field to hold a ProjectileStore object for testing.
+     */
+    private ProjectileStore store;
+
+    /**
+     * Default constructor for ProjectileStoreTest.
+     * This constructor initializes the ProjectileStoreTest class.
+     */
+    public ProjectileStoreTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by initializing an empty ProjectileStore.
+     */
+    @BeforeEach
+    public void setUp() {
+        store = new ProjectileStore();
+    }
+
+    /**
+     * Tests that added projectiles can be read back by index.
+     */
+    @Test
+    public void testAdd() {
+        store.add(100, 200, -10);
+        assertEquals(1, store.size(), "Store should contain one projectile.");
+        assertEquals(100, store.getX(0), "X position should match the added value.");
+        assertEquals(200, store.getY(0), "Y position should match the added value.");
+    }
+
+    /**
+     * Tests that the store grows beyond its initial capacity without losing projectiles.
+     */
+    @Test
+    public void testAddBeyondInitialCapacity() {
+        for (int i = 0; i < 1000; i++) {
+            store.add(i, i, 10);
+        }
+        assertEquals(1000, store.size(), "Store should hold every added projectile.");
+        assertEquals(999, store.getX(999), "Last projectile should keep its position.");
+    }
+
+    /**
+     * Tests that move advances a single projectile and returns its new position.
+     */
+    @Test
+    public void testMove() {
+        store.add(0, 100, -10);
+        store.add(0, 100, 10);
+        assertEquals(90, store.move(0), "Move should return the new y position.");
+        assertEquals(100, store.getY(1), "Other projectiles should not move.");
+        assertEquals(110, store.move(1), "Each projectile should move by its own velocity.");
+    }
+
+    /**
+     * Tests that removing a projectile moves the last projectile into its slot.
+     */
+    @Test
+    public void testRemoveSwapsLast() {
+        store.add(1, 1, 0);
+        store.add(2, 2, 0);
+        store.add(3, 3, 0);
+        store.remove(0);
+        assertEquals(2, store.size(), "Store should contain two projectiles after removal.");
+        assertEquals(3, store.getX(0), "Last projectile should fill the removed slot.");
+        assertEquals(2, store.getX(1), "Other projectiles should be unaffected.");
+    }
+
+    /**
+     * Tests that removing an invalid index throws an exception.
+     */
+    @Test
+    public void testRemoveInvalidIndex() {
+        assertThrows(IndexOutOfBoundsException.class, () -> store.remove(0), "Removing from an empty store should throw.");
+    }
+
+    /**
+     * Tests that clear empties the store.
+     */
+    @Test
+    public void testClear() {
+        store.add(1, 1, 0);
+        store.clear();
+        assertEquals(0, store.size(), "Store should be empty after clear.");
+    }
+
+    /**
+     * Tests that a full store using DROP_NEWEST keeps its projectiles and rejects the new one.
+     */
+    @Test
+    public void testDropNewestPolicy() {
+        store = new ProjectileStore(2, OverflowPolicy.DROP_NEWEST);
+        assertTrue(store.add(1, 1, 0));
+        assertTrue(store.add(2, 2, 0));
+        assertFalse(store.add(3, 3, 0), "Add should be rejected when the store is full.");
+        assertEquals(2, store.size(), "Store should stay at capacity.");
+        assertEquals(1, store.getX(0), "Existing projectiles should be kept.");
+        assertEquals(2, store.getX(1), "Existing projectiles should be kept.");
+    }
+
+    /**
+     * Tests that a full store using DROP_OLDEST recycles the projectile that was added first.
+     */
+    @Test
+    public void testDropOldestPolicy() {
+        store = new ProjectileStore(2, OverflowPolicy.DROP_OLDEST);
+        store.add(1, 1, 0);
+        store.add(2, 2, 0);
+        assertTrue(store.add(3, 3, 0), "Add should succeed by recycling the oldest projectile.");
+        assertEquals(2, store.size(), "Store should stay at capacity.");
+        assertEquals(2, store.capacity(), "Store should not grow.");
+        assertTrue(store.getX(0) != 1 && store.getX(1) != 1, "Oldest projectile should have been recycled.");
+
+        // The oldest is found by insertion order, not by slot
+        assertTrue(store.add(4, 4, 0));
+        assertTrue(store.getX(0) != 2 && store.getX(1) != 2, "Next oldest projectile should have been recycled.");
+    }
+
+    /**
+     * Tests that DROP_OLDEST follows insertion order after removals have moved projectiles between slots.
+     */
+    @Test
+    public void testDropOldestAfterRemovals() {
+        store = new ProjectileStore(3, OverflowPolicy.DROP_OLDEST);
+        store.add(1, 1, 0);
+        store.add(2, 2, 0);
+        store.add(3, 3, 0);
+        store.remove(0); // The newest projectile moves into the oldest one's slot
+        store.add(4, 4, 0);
+        store.add(5, 5, 0);
+        store.add(6, 6, 0);
+        assertEquals(3, store.size(), "Store should stay at capacity.");
+        int sum = 0;
+        for (int i = 0; i < store.size(); i++) {
+            assertTrue(store.getX(i) >= 4, "Projectiles 2 and 3 should have been recycled, in that order.");
+            sum += store.getX(i);
+        }
+        assertEquals(15, sum, "The three newest projectiles should be kept.");
+
+        store.clear();
+        store.add(7, 7, 0);
+        store.add(8, 8, 0);
+        store.add(9, 9, 0);
+        store.add(10, 10, 0);
+        assertTrue(store.getX(0) != 7 && store.getX(1) != 7 && store.getX(2) != 7, "Clear should reset the insertion order.");
+    }
+
+    /**
+     * Tests that a full store using GROW increases its capacity.
+     */
+    @Test
+    public void testGrowPolicy() {
+        store = new ProjectileStore(2, OverflowPolicy.GROW);
+        store.add(1, 1, 0);
+        store.add(2, 2, 0);
+        assertTrue(store.add(3, 3, 0), "Add should succeed by growing the store.");
+        assertEquals(3, store.size(), "Store should hold every added projectile.");
+        assertTrue(store.capacity() >= 3, "Capacity should have grown.");
+    }
+
+    /**
+     * Tests that invalid constructor arguments are rejected.
+     */
+    @Test
+    public void testInvalidConstructorArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ProjectileStore(0, OverflowPolicy.GROW));
+        assertThrows(IllegalArgumentException.class, () -> new ProjectileStore(10, null));
+    }
+
+    /**
+     * Tests that the list view reflects the store and cannot be modified.
+     */
+    @Test
+    public void testAsList() {
+        List<Bullet> view = store.asList(Bullet::new);
+        assertTrue(view.isEmpty(), "View of an empty store should be empty.");
+
+        store.add(100, 200, -10);
+        assertEquals(1, view.size(), "View should reflect projectiles added after it was created.");
+        assertEquals(100, view.get(0).getX(), "View element should have the stored x position.");
+        assertEquals(200, view.get(0).getY(), "View element should have the stored y position.");
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Bullet(0, 0)), "View should be read-only.");
+    }
+
+    /**
+     * Tests that positions are copied as x and y pairs and that a short array is rejected.
+     */
+    @Test
+    public void testCopyPositions() {
+        store.add(1, 2, 0);
+        store.add(3, 4, 0);
+        int[] positions = new int[4];
+        assertEquals(2, store.copyPositions(positions), "All stored projectiles should be copied.");
+        assertArrayEquals(new int[]{1, 2, 3, 4}, positions, "Positions should be copied as x and y pairs.");
+        assertThrows(IndexOutOfBoundsException.class, () -> store.copyPositions(new int[3]));
+    }
+}
@@ -0,0 +1,103 @@
+package ModelTest;
+
+import spaceInvaders.Model.GameModel;
+import spaceInvaders.Model.GameSnapshot;
+import spaceInvaders.Model.SnapshotBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the SnapshotBuffer class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class SnapshotBufferTest {
+
+    /**
+     * Private field to hold a SnapshotBuffer object for testing.
+     */
+    private SnapshotBuffer buffer;
+
+    /**
+     * Private field to hold a GameModel object writing the snapshots.
+     */
+    private GameModel gameModel;
+
+    /**
+     * Default constructor for SnapshotBufferTest.
+     * This constructor initializes the SnapshotBufferTest class.
+     */
+    public SnapshotBufferTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by initializing an empty buffer and a new game model.
+     */
+    @BeforeEach
+    public void setUp() {
+        buffer = new SnapshotBuffer();
+        gameModel = new GameModel();
+    }
+
+    /**
+     * Cleans up after each test by closing the game model.
+     */
+    @AfterEach
+    public void tearDown() {
+        gameModel.close();
+    }
+
+    /**
+     * Publishes the current state of the game model.
+     */
+    private void publish() {
+        gameModel.writeSnapshot(buffer.beginWrite());
+        buffer.publish();
+    }
+
+    /**
+     * Tests that the reader gets the latest published frame.
+     */
+    @Test
+    public void testAcquireLatest() {
+        publish();
+        gameModel.movePlayer(1, 0);
+        publish();
+
+        assertEquals(gameModel.getPlayer().getX(), buffer.acquire().getPlayerX(), "Reader should get the latest published frame.");
+    }
+
+    /**
+     * Tests that the reader keeps its snapshot when nothing new has been published.
+     */
+    @Test
+    public void testAcquireWithoutPublish() {
+        publish();
+        GameSnapshot first = buffer.acquire();
+        assertSame(first, buffer.acquire(), "Reader should keep its snapshot until a new frame is published.");
+    }
+
+    /**
+     * Tests that the writer never writes into the snapshot held by the reader, however often it publishes.
+     */
+    @Test
+    public void testWriterNeverTouchesReaderSnapshot() {
+        publish();
+        GameSnapshot held = buffer.acquire();
+        int heldX = held.getPlayerX();
+
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(held, buffer.beginWrite(), "Writer should not be given the reader's snapshot.");
+            gameModel.movePlayer(1, 0);
+            publish();
+        }
+
+        assertEquals(heldX, held.getPlayerX(), "Snapshot held by the reader should not change.");
+        assertNotSame(held, buffer.acquire(), "Reader should move on to the newest frame.");
+    }
+}
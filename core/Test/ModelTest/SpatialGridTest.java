@@ -0,0 +1,130 @@
+package ModelTest;
+
+import spaceInvaders.Model.Collidable;
+import spaceInvaders.Model.Enemy;
+import spaceInvaders.Model.SpatialGrid;
+import spaceInvaders.Model.Star;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the SpatialGrid class and the shared Collidable bounding box test in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class SpatialGridTest {
+
+    /**
+     * Private field to hold a SpatialGrid object for testing.
+     */
+    private SpatialGrid grid;
+
+    /**
+     * Default constructor for SpatialGridTest.
+     * This constructor initializes the SpatialGridTest class.
+     */
+    public SpatialGridTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by initializing a grid covering the game screen.
+     */
+    @BeforeEach
+    public void setUp() {
+        grid = new SpatialGrid(1000, 600, Enemy.WIDTH);
+    }
+
+    /**
+     * Tests the shared bounding box test, including boxes that only touch along an edge.
+     */
+    @Test
+    public void testIntersects() {
+        assertTrue(Collidable.intersects(0, 0, 10, 10, 5, 5, 10, 10), "Overlapping boxes should intersect.");
+        assertFalse(Collidable.intersects(0, 0, 10, 10, 10, 0, 10, 10), "Boxes touching along an edge should not intersect.");
+        assertFalse(Collidable.intersects(0, 0, 10, 10, 50, 50, 10, 10), "Distant boxes should not intersect.");
+    }
+
+    /**
+     * Tests that a query finds an entity registered in the grid.
+     */
+    @Test
+    public void testFirstHit() {
+        Star star = new Star(100, 100);
+        grid.insert(star, 1);
+        assertSame(star, grid.firstHit(110, 110, 10, 20, 1), "Query overlapping the star should find it.");
+        assertNull(grid.firstHit(500, 500, 10, 20, 1), "Query away from the star should find nothing.");
+    }
+
+    /**
+     * Tests that an entity spanning several cells is found from each of them.
+     */
+    @Test
+    public void testEntitySpanningCells() {
+        Enemy enemy = new Enemy(100, 100); // Spans two columns and two rows with a cell size of 120
+        grid.insert(enemy, 1);
+        assertSame(enemy, grid.firstHit(105, 105, 10, 20, 1), "Enemy should be found from its top-left cell.");
+        assertSame(enemy, grid.firstHit(205, 175, 10, 20, 1), "Enemy should be found from its bottom-right cell.");
+    }
+
+    /**
+     * Tests that only entities on the requested layers are returned.
+     */
+    @Test
+    public void testLayerMask() {
+        Star star = new Star(100, 100);
+        grid.insert(star, 2);
+        assertNull(grid.firstHit(110, 110, 10, 20, 1), "Entities on other layers should be ignored.");
+        assertSame(star, grid.firstHit(110, 110, 10, 20, 1 | 2), "Entities on a requested layer should be found.");
+    }
+
+    /**
+     * Tests that the entity inserted first wins when several entities are hit.
+     */
+    @Test
+    public void testFirstHitPrefersEarlierEntity() {
+        Star later = new Star(100, 100);
+        Enemy earlier = new Enemy(90, 90);
+        grid.insert(earlier, 1);
+        grid.insert(later, 1);
+        assertSame(earlier, grid.firstHit(110, 110, 10, 20, 1), "The entity inserted first should be returned.");
+    }
+
+    /**
+     * Tests that removed entities and cleared grids are no longer hit.
+     */
+    @Test
+    public void testRemoveAndClear() {
+        Star star = new Star(100, 100);
+        int id = grid.insert(star, 1);
+        grid.remove(id);
+        assertNull(grid.firstHit(110, 110, 10, 20, 1), "Removed entity should not be hit.");
+
+        grid.insert(star, 1);
+        grid.clear();
+        assertEquals(0, grid.size(), "Cleared grid should be empty.");
+        assertNull(grid.firstHit(110, 110, 10, 20, 1), "Cleared grid should not hit anything.");
+    }
+
+    /**
+     * Tests that boxes reaching outside the arena are still found through the edge cells.
+     */
+    @Test
+    public void testOutsideArena() {
+        Star star = new Star(0, 0);
+        grid.insert(star, 1);
+        assertSame(star, grid.firstHit(-5, -15, 10, 20, 1), "Box overlapping the star from outside the arena should hit it.");
+        assertNull(grid.firstHit(-50, -50, 10, 20, 1), "Box fully outside the arena should not hit the star.");
+    }
+
+    /**
+     * Tests that invalid grid dimensions are rejected.
+     */
+    @Test
+    public void testInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialGrid(1000, 600, 0));
+    }
+}
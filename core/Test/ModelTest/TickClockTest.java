@@ -0,0 +1,70 @@
+package ModelTest;
+
+import spaceInvaders.Model.TickClock;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the TickClock class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class TickClockTest {
+
+    /**
+     * Default constructor for TickClockTest.
+     * This constructor initializes the TickClockTest class.
+     */
+    public TickClockTest() {
+        //Default constructor
+    }
+
+    /**
+     * Tests that a new clock starts at zero.
+     */
+    @Test
+    public void testStartsAtZero() {
+        TickClock clock = new TickClock();
+        assertEquals(0, clock.currentTimeMillis(), "A new clock should start at zero.");
+        assertEquals(0, clock.getTicks(), "A new clock should have no ticks.");
+    }
+
+    /**
+     * Tests that each tick advances the time by one step of the tick rate.
+     */
+    @Test
+    public void testTick() {
+        TickClock clock = new TickClock(100);
+        clock.tick();
+        assertEquals(10, clock.currentTimeMillis(), "One tick at 100 ticks per second should be 10 milliseconds.");
+
+        for (int i = 0; i < 99; i++) {
+            clock.tick();
+        }
+        assertEquals(1000, clock.currentTimeMillis(), "100 ticks at 100 ticks per second should be one second.");
+        assertEquals(100, clock.getTicks(), "Tick count should match the number of ticks.");
+    }
+
+    /**
+     * Tests that the default clock runs at the default tick rate.
+     */
+    @Test
+    public void testDefaultTickRate() {
+        TickClock clock = new TickClock();
+        assertEquals(TickClock.DEFAULT_TICKS_PER_SECOND, clock.getTicksPerSecond());
+        for (int i = 0; i < TickClock.DEFAULT_TICKS_PER_SECOND; i++) {
+            clock.tick();
+        }
+        assertEquals(1000, clock.currentTimeMillis(), "One second of ticks should be 1000 milliseconds.");
+    }
+
+    /**
+     * Tests that an invalid tick rate is rejected.
+     */
+    @Test
+    public void testInvalidTickRate() {
+        assertThrows(IllegalArgumentException.class, () -> new TickClock(0));
+    }
+}
@@ -0,0 +1,65 @@
+package ModelTest;
+
+import spaceInvaders.Model.TickTimer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the TickTimer class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class TickTimerTest {
+
+    /**
+     * Private field to hold a TickTimer object for testing.
+     */
+    private TickTimer timer;
+
+    /**
+     * Default constructor for TickTimerTest.
+     * This constructor initializes the TickTimerTest class.
+     */
+    public TickTimerTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by initializing a timer that has not been started.
+     */
+    @BeforeEach
+    public void setUp() {
+        timer = new TickTimer();
+    }
+
+    /**
+     * Tests that a timer that has not been started counts as elapsed.
+     */
+    @Test
+    public void testNotStartedHasElapsed() {
+        assertTrue(timer.hasElapsed(0, 10000), "A timer that was never started should count as elapsed.");
+    }
+
+    /**
+     * Tests that a restarted timer elapses once the duration has passed.
+     */
+    @Test
+    public void testHasElapsedAfterRestart() {
+        timer.restart(1000);
+        assertFalse(timer.hasElapsed(1499, 500), "Timer should not elapse before the duration has passed.");
+        assertTrue(timer.hasElapsed(1500, 500), "Timer should elapse once the duration has passed.");
+    }
+
+    /**
+     * Tests that resetting a timer makes it count as elapsed again.
+     */
+    @Test
+    public void testReset() {
+        timer.restart(1000);
+        timer.reset();
+        assertTrue(timer.hasElapsed(1000, 500), "A reset timer should count as elapsed.");
+    }
+}
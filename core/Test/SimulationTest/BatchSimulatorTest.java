@@ -0,0 +1,89 @@
+package SimulationTest;
+
+import spaceInvaders.Simulation.BatchSimulator;
+import spaceInvaders.Simulation.MatchStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the BatchSimulator and MatchStats classes in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class BatchSimulatorTest {
+
+    /**
+     * Default constructor for BatchSimulatorTest.
+     * This constructor initializes the BatchSimulatorTest class.
+     */
+    public BatchSimulatorTest() {
+        //Default constructor
+    }
+
+    /**
+     * Tests that every match in a batch is recorded.
+     */
+    @Test
+    public void testAllMatchesRecorded() {
+        MatchStats stats = new BatchSimulator(1, BatchSimulator.DEFAULT_MAX_MATCH_TICKS).run(200);
+        assertEquals(200, stats.getMatches(), "Every match should be recorded.");
+        assertTrue(stats.getPlayerWins() + stats.getEnemyWins() > 0, "Random bots should finish some matches.");
+        assertTrue(stats.getShortestMatch() <= stats.getAverageMatchLength(), "Shortest match should not be longer than the average.");
+        assertTrue(stats.getAverageMatchLength() <= stats.getLongestMatch(), "Longest match should not be shorter than the average.");
+    }
+
+    /**
+     * Tests that a batch gives the same results however many threads run it.
+     */
+    @Test
+    public void testResultsIndependentOfParallelism() {
+        BatchSimulator simulator = new BatchSimulator(5, BatchSimulator.DEFAULT_MAX_MATCH_TICKS);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            MatchStats sequential = simulator.run(300, single);
+            MatchStats parallel = simulator.run(300, several);
+            assertEquals(sequential.getPlayerWins(), parallel.getPlayerWins(), "Player wins should not depend on the number of threads.");
+            assertEquals(sequential.getEnemyWins(), parallel.getEnemyWins(), "Enemy wins should not depend on the number of threads.");
+            assertEquals(sequential.getTotalTicks(), parallel.getTotalTicks(), "Match lengths should not depend on the number of threads.");
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    /**
+     * Tests that matches reaching the maximum length are recorded as unfinished.
+     */
+    @Test
+    public void testMaxMatchLength() {
+        MatchStats stats = new BatchSimulator(3, 10).run(20);
+        assertEquals(20, stats.getUnfinished(), "Matches stopped at the maximum length should be unfinished.");
+        assertEquals(10, stats.getLongestMatch(), "No match should run past the maximum length.");
+    }
+
+    /**
+     * Tests merging accumulators.
+     */
+    @Test
+    public void testMerge() {
+        MatchStats first = new MatchStats();
+        first.record(true, false, 100, 5, 2);
+        MatchStats second = new MatchStats();
+        second.record(false, true, 300, 1, 5);
+        second.record(false, false, 50, 0, 0);
+
+        first.merge(second);
+        assertEquals(3, first.getMatches(), "Merged accumulator should hold all matches.");
+        assertEquals(1, first.getPlayerWins(), "Player wins should be added.");
+        assertEquals(1, first.getEnemyWins(), "Enemy wins should be added.");
+        assertEquals(1, first.getUnfinished(), "Unfinished matches should be added.");
+        assertEquals(50, first.getShortestMatch(), "Shortest match should be the shortest of both.");
+        assertEquals(300, first.getLongestMatch(), "Longest match should be the longest of both.");
+        assertEquals(2.0, first.getAveragePlayerScore(), 1e-9, "Scores should be added.");
+    }
+}
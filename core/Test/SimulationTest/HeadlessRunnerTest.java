@@ -0,0 +1,93 @@
+package SimulationTest;
+
+import spaceInvaders.Simulation.Bot;
+import spaceInvaders.Simulation.GameKey;
+import spaceInvaders.Simulation.HeadlessRunner;
+import spaceInvaders.Simulation.RandomBot;
+import spaceInvaders.Simulation.RunReport;
+import spaceInvaders.Simulation.ScriptedBot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the HeadlessRunner class and its bots in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class HeadlessRunnerTest {
+
+    /**
+     * Default constructor for HeadlessRunnerTest.
+     * This constructor initializes the HeadlessRunnerTest class.
+     */
+    public HeadlessRunnerTest() {
+        //Default constructor
+    }
+
+    /**
+     * Runs a game with random bots seeded from the given seed.
+     *
+     * @param seed  The seed for the game and the bots.
+     * @param ticks The number of ticks to simulate.
+     * @return The report of the run.
+     */
+    private RunReport runRandom(long seed, long ticks) {
+        try (HeadlessRunner runner = new HeadlessRunner(seed, RandomBot.player(new Random(seed + 1)), RandomBot.enemy(new Random(seed + 2)))) {
+            return runner.run(ticks);
+        }
+    }
+
+    /**
+     * Tests that random bots play complete matches and that the report counts every tick.
+     */
+    @Test
+    public void testRandomBotsFinishMatches() {
+        RunReport report = runRandom(7, 200_000);
+        assertEquals(200_000, report.getTicks(), "Every tick should be counted.");
+        assertTrue(report.getMatches() > 0, "Random bots should finish at least one match.");
+        assertEquals(report.getMatches(), report.getPlayerWins() + report.getEnemyWins(), "Every match should have a winner.");
+        assertTrue(report.getTicksPerSecond() > 0, "Simulation speed should be reported.");
+    }
+
+    /**
+     * Tests that runs with the same seed have the same outcome.
+     */
+    @Test
+    public void testSameSeedSameOutcome() {
+        RunReport first = runRandom(11, 100_000);
+        RunReport second = runRandom(11, 100_000);
+        assertEquals(first.getPlayerWins(), second.getPlayerWins(), "Player wins should repeat with the same seed.");
+        assertEquals(first.getEnemyWins(), second.getEnemyWins(), "Enemy wins should repeat with the same seed.");
+    }
+
+    /**
+     * Tests that a scripted player shooting straight up at a still enemy wins every match.
+     */
+    @Test
+    public void testScriptedBotWins() {
+        ScriptedBot script = new ScriptedBot();
+        for (long tick = 0; tick < 6000; tick += 40) {
+            script.press(tick, GameKey.SPACE);
+        }
+        try (HeadlessRunner runner = new HeadlessRunner(3, script, Bot.IDLE)) {
+            RunReport report = runner.run(6000);
+            assertTrue(report.getPlayerWins() > 0, "Player shooting at a still enemy should win.");
+            assertEquals(0, report.getEnemyWins(), "Idle enemy should not win.");
+        }
+    }
+
+    /**
+     * Tests parsing scripts from text, including comments and invalid lines.
+     */
+    @Test
+    public void testParseScript() {
+        assertNotNull(ScriptedBot.parse(List.of("# opening", "", "0 space", "10 LEFT")), "Valid script should parse.");
+        assertThrows(IllegalArgumentException.class, () -> ScriptedBot.parse(List.of("0 JUMP")));
+        assertThrows(IllegalArgumentException.class, () -> ScriptedBot.parse(List.of("10 SPACE", "5 SPACE")));
+    }
+}
@@ -0,0 +1,116 @@
+package spaceInvaders.Controller;
+
+/**
+ * The FixedTimestep class decides how many simulation steps to run for each rendered frame.
+ * It accumulates the real time that has passed between frames and pays it out in whole steps of a
+ * fixed length, so the game simulates at the same speed whatever the frame rate. Any time left over
+ * is carried into the next frame.
+ *
+ * After a slow frame the simulation catches up by running several steps at once, but never more than
+ * a fixed maximum. Time beyond that is dropped, so a long stall makes the game skip ahead in a bounded
+ * way instead of falling further and further behind.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class FixedTimestep {
+    /**
+     * Default maximum number of steps run for a single frame.
+     */
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
+    /**
+     * Length of one simulation step, in nanoseconds.
+     */
+    private final long stepNanos;
+
+    /**
+     * Maximum number of steps run for a single frame.
+     */
+    private final int maxStepsPerFrame;
+
+    /**
+     * Time of the previous frame, in nanoseconds.
+     */
+    private long lastTime;
+
+    /**
+     * Flag indicating whether a frame has been seen yet.
+     */
+    private boolean started;
+
+    /**
+     * Real time that has passed but has not yet been simulated, in nanoseconds.
+     */
+    private long accumulator;
+
+    /**
+     * Constructor to create a timestep running at the given rate.
+     *
+     * @param stepsPerSecond   Number of simulation steps per second of real time.
+     * @param maxStepsPerFrame Maximum number of steps run for a single frame.
+     * @throws IllegalArgumentException If either value is not positive.
+     */
+    public FixedTimestep(int stepsPerSecond, int maxStepsPerFrame) {
+        if (stepsPerSecond <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Steps per second and max steps per frame must be positive.");
+        }
+        this.stepNanos = 1_000_000_000L / stepsPerSecond;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Works out how many simulation steps are due at the given time. The first call only records the time
+     * and returns zero.
+     *
+     * @param nowNanos The current time, in nanoseconds, as returned by {@link System#nanoTime()}.
+     * @return The number of steps to run, between zero and the maximum steps per frame.
+     */
+    public int advance(long nowNanos) {
+        if (!started) {
+            started = true;
+            lastTime = nowNanos;
+            return 0;
+        }
+        accumulator += Math.max(0, nowNanos - lastTime);
+        lastTime = nowNanos;
+
+        long due = accumulator / stepNanos;
+        int steps = (int) Math.min(due, maxStepsPerFrame);
+        accumulator -= steps * stepNanos;
+        if (due > maxStepsPerFrame) {
+            accumulator %= stepNanos; // Drop the time we cannot catch up on
+        }
+        return steps;
+    }
+
+    /**
+     * Works out how long it is until the next simulation step is due.
+     *
+     * @param nowNanos The current time, in nanoseconds, as returned by {@link System#nanoTime()}.
+     * @return The time until the next step, in nanoseconds, or zero if a step is already due.
+     */
+    public long nanosUntilNextStep(long nowNanos) {
+        if (!started) {
+            return 0;
+        }
+        return Math.max(0, stepNanos - accumulator - Math.max(0, nowNanos - lastTime));
+    }
+
+    /**
+     * Forgets all accumulated time, so the next call to {@link #advance(long)} starts afresh.
+     */
+    public void reset() {
+        started = false;
+        accumulator = 0;
+    }
+
+    /**
+     * Retrieves the length of one simulation step.
+     *
+     * @return The step length, in nanoseconds.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+}
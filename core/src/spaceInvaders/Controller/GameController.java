@@ -1,6 +1,9 @@
 package spaceInvaders.Controller;
 
+import spaceInvaders.Model.GameSnapshot;
 import spaceInvaders.Model.IGameModel;
+import spaceInvaders.Model.SnapshotBuffer;
+import spaceInvaders.Model.TickClock;
 import spaceInvaders.View.IGameView;
 
 /**
@@ -9,6 +12,10 @@ import spaceInvaders.View.IGameView;
  * and user input. This class is responsible for updating the game state,
  * processing player and enemy actions, and ensuring that the game view is
  * consistently updated to reflect the current state of the game.
+ * After every change to the model the controller publishes a {@link GameSnapshot} into a triple-buffered
+ * {@link SnapshotBuffer}, and all of its getters read from the latest published snapshot instead of the live
+ * model. The getters and the game state checks are therefore safe to call from one thread other than the one
+ * changing the model, which is what {@link ThreadedGameController} relies on.
  * Example usage:
  * {@code
  *     IGameModel model = new GameModel();
@@ -34,7 +41,17 @@ public class GameController implements IGameController {
     /**
      * The current state of the game (e.g., START_SCREEN, RUNNING).
      */
-    private GameState gameState;
+    private volatile GameState gameState;
+
+    /**
+     * Triple buffer passing copies of the game state from the model to the getters.
+     */
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+
+    /**
+     * Fixed timestep deciding how many simulation steps to run for each rendered frame.
+     */
+    private final FixedTimestep timestep;
 
     /**
      * Keycode for the left arrow key.
@@ -58,16 +75,50 @@ public class GameController implements IGameController {
 
     /**
      * Constructor to initialize the GameController with a specific game model and view.
-     * Sets the initial game state to START_SCREEN.
+     * Sets the initial game state to START_SCREEN. The game is simulated at
+     * {@link TickClock#DEFAULT_TICKS_PER_SECOND} steps per second whatever the frame rate.
      *
      * @param model The game model to be used for game logic.
      * @param view  The game view to be used for rendering.
      */
     public GameController(IGameModel model, IGameView view) {
+        this(model, view, new FixedTimestep(TickClock.DEFAULT_TICKS_PER_SECOND, FixedTimestep.DEFAULT_MAX_STEPS_PER_FRAME));
+    }
+
+    /**
+     * Constructor to initialize the GameController with a specific game model, view and simulation timestep.
+     * Sets the initial game state to START_SCREEN.
+     *
+     * @param model    The game model to be used for game logic.
+     * @param view     The game view to be used for rendering.
+     * @param timestep The timestep deciding how many simulation steps to run for each frame.
+     */
+    public GameController(IGameModel model, IGameView view, FixedTimestep timestep) {
         this.model = model;
         this.view = view;
+        this.timestep = timestep;
         this.view.setController(this);
         gameState = GameState.START_SCREEN;
+        publishSnapshot();
+    }
+
+    /**
+     * Copies the current state of the model into the snapshot buffer and publishes it to the getters.
+     */
+    private void publishSnapshot() {
+        model.writeSnapshot(snapshots.beginWrite());
+        snapshots.publish();
+    }
+
+    /**
+     * Retrieves the latest published copy of the game state, for drawing a whole frame from a single consistent state.
+     * The snapshot stays unchanged until this method or any of the state getters is called again.
+     *
+     * @return The latest game state snapshot.
+     */
+    @Override
+    public GameSnapshot getSnapshot() {
+        return snapshots.acquire();
     }
 
     /**
@@ -98,6 +149,7 @@ public class GameController implements IGameController {
             validateMoveInputs(dx, dy);
             if (gameState == GameState.RUNNING && !model.isGameOver()) {
                 model.movePlayer(dx, dy);
+                publishSnapshot();
                 view.updateView();
             }
         } catch (IllegalArgumentException e) {
@@ -120,6 +172,7 @@ public class GameController implements IGameController {
             validateMoveInputs(dx, dy);
             if (gameState == GameState.RUNNING && !model.isGameOver()) {
                 model.moveEnemy(dx, dy);
+                publishSnapshot();
                 view.updateView();
             }
         } catch (IllegalArgumentException e) {
@@ -136,6 +189,7 @@ public class GameController implements IGameController {
     public void shootBullet() {
         if (gameState == GameState.RUNNING && !model.isGameOver()) {
             model.shootBullet();
+            publishSnapshot();
             view.updateView();
         }
     }
@@ -146,6 +200,7 @@ public class GameController implements IGameController {
     public void shootEnemyBullet() {
         if (gameState == GameState.RUNNING && !model.isGameOver()) {
             model.shootEnemyBullet();
+            publishSnapshot();
             view.updateView();
         }
     }
@@ -169,7 +224,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getPlayerX() {
-        return model.getPlayer().getX();
+        return snapshots.acquire().getPlayerX();
     }
 
     /**
@@ -179,7 +234,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getPlayerY() {
-        return model.getPlayer().getY();
+        return snapshots.acquire().getPlayerY();
     }
 
     /**
@@ -189,7 +244,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getBulletCount() {
-        return model.getBullets().size();
+        return snapshots.acquire().getBulletCount();
     }
 
     /**
@@ -199,7 +254,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getEnemyX() {
-        return model.getEnemy().getX();
+        return snapshots.acquire().getEnemyX();
     }
 
     /**
@@ -209,7 +264,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getEnemyY() {
-        return model.getEnemy().getY();
+        return snapshots.acquire().getEnemyY();
     }
 
     /**
@@ -219,53 +274,68 @@ public class GameController implements IGameController {
      */
     @Override
     public int getEnemyBulletCount() {
-        return model.getEnemyBullets().size();
+        return snapshots.acquire().getEnemyBulletCount();
     }
     /**
-     * Retrieves the position of a specific bullet based on its index.
+     * Retrieves the position of a specific bullet based on its index. Allocates a new array on every call;
+     * prefer {@link #copyBulletPositions(int[])} when reading every bullet.
      *
      * @param index The index of the bullet in the bullet list.
      * @return An array containing the x and y coordinates of the bullet, or null if index is invalid.
      */
     @Override
     public int[] getBulletPosition(int index) {
-        try {
-            if (index >= 0 && index < model.getBullets().size()) {
-                var bullet = model.getBullets().get(index);
-                return new int[]{bullet.getX(), bullet.getY()};
-            }
-        } catch (Exception e) {
-            System.err.println("Error getting bullet position: " + e.getMessage());
-        }
-        return null;
+        GameSnapshot current = snapshots.acquire();
+        return index >= 0 && index < current.getBulletCount() ? new int[]{current.getBulletX(index), current.getBulletY(index)} : null;
+    }
+
+    /**
+     * Copies the positions of all bullets into an array as x and y pairs, without allocating.
+     *
+     * @param dest The array to copy into.
+     * @return The number of bullets copied.
+     */
+    @Override
+    public int copyBulletPositions(int[] dest) {
+        return snapshots.acquire().copyBulletPositions(dest);
     }
 
     /**
-     * Retrieves the position of a specific enemy bullet based on its index.
+     * Retrieves the position of a specific enemy bullet based on its index. Allocates a new array on every call;
+     * prefer {@link #copyEnemyBulletPositions(int[])} when reading every enemy bullet.
      *
      * @param index The index of the enemy bullet in the enemy bullet list.
      * @return An array containing the x and y coordinates of the enemy bullet, or null if index is invalid.
      */
     @Override
     public int[] getEnemyBulletPosition(int index) {
-        try {
-            if (index >= 0 && index < model.getEnemyBullets().size()) {
-                var bullet = model.getEnemyBullets().get(index);
-                return new int[]{bullet.getX(), bullet.getY()};
-            }
-        } catch (Exception e) {
-            System.err.println("Error getting enemy bullet position: " + e.getMessage());
-        }
-        return null;
+        GameSnapshot current = snapshots.acquire();
+        return index >= 0 && index < current.getEnemyBulletCount() ? new int[]{current.getEnemyBulletX(index), current.getEnemyBulletY(index)} : null;
+    }
+
+    /**
+     * Copies the positions of all enemy bullets into an array as x and y pairs, without allocating.
+     *
+     * @param dest The array to copy into.
+     * @return The number of enemy bullets copied.
+     */
+    @Override
+    public int copyEnemyBulletPositions(int[] dest) {
+        return snapshots.acquire().copyEnemyBulletPositions(dest);
     }
 
     /**
      * Updates the game state and view. This method is called periodically to ensure the game state is current.
+     * The model is only advanced while the game is running, so bullets, shot cooldowns and star timing
+     * all stand still while the game is paused or on the start screen.
      */
     @Override
     public void updateGame() {
         try {
-            model.updateGame();
+            if (gameState == GameState.RUNNING) {
+                model.updateGame();
+                publishSnapshot();
+            }
             view.updateView();
 
             if (model.isGameOver()) {
@@ -277,12 +347,38 @@ public class GameController implements IGameController {
         }
     }
 
+    /**
+     * Advances the simulation to the given time by running every fixed step that is due, up to the
+     * catch-up limit of the timestep. Called once per rendered frame.
+     *
+     * @param nowNanos The current time, in nanoseconds, as returned by {@link System#nanoTime()}.
+     * @return The number of simulation steps run.
+     */
+    @Override
+    public int advance(long nowNanos) {
+        int steps = timestep.advance(nowNanos);
+        for (int i = 0; i < steps; i++) {
+            updateGame();
+        }
+        return steps;
+    }
+
+    /**
+     * Shuts the game down by closing the model. The controller must not be used afterwards.
+     */
+    @Override
+    public void shutdown() {
+        model.close();
+        publishSnapshot();
+    }
+
     /**
      * Resets the game to its initial state.
      */
     @Override
     public void resetGame() {
         model.resetGame();
+        publishSnapshot();
         // Uncomment to set the game state to START_SCREEN upon reset.
         // setGameState(GameState.START_SCREEN);
     }
@@ -294,7 +390,7 @@ public class GameController implements IGameController {
      */
     @Override
     public boolean isStarExists() {
-        return model.isStarExists();
+        return snapshots.acquire().isStarExists();
     }
 
     /**
@@ -304,9 +400,9 @@ public class GameController implements IGameController {
      */
     @Override
     public int[] getStarPosition() {
-        if (model.isStarExists()) {
-            var star = model.getStar();
-            return new int[]{star.getX(), star.getY()};
+        GameSnapshot current = snapshots.acquire();
+        if (current.isStarExists()) {
+            return new int[]{current.getStarX(), current.getStarY()};
         }
         return null;
     }
@@ -318,7 +414,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getEnemyScore() {
-        return model.getEnemyScore();
+        return snapshots.acquire().getEnemyScore();
     }
 
     /**
@@ -328,7 +424,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getEnemyLives() {
-        return model.getEnemyLives();
+        return snapshots.acquire().getEnemyLives();
     }
 
     /**
@@ -338,7 +434,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getPlayerLives() {
-        return model.getPlayer().getLives();
+        return snapshots.acquire().getLifeCount();
     }
 
     /**
@@ -348,7 +444,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getScore() {
-        return model.getScore();
+        return snapshots.acquire().getScore();
     }
 
     /**
@@ -358,7 +454,7 @@ public class GameController implements IGameController {
      */
     @Override
     public int getLifeCount() {
-        return model.getLifeCount();
+        return snapshots.acquire().getLifeCount();
     }
 
 
@@ -369,7 +465,7 @@ public class GameController implements IGameController {
      */
     @Override
     public boolean isGameOver() {
-        return model.isGameOver();
+        return snapshots.acquire().isGameOver();
     }
 
 // Key handling methods
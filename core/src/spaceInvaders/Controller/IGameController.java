@@ -1,5 +1,7 @@
 package spaceInvaders.Controller;
 
+import spaceInvaders.Model.GameSnapshot;
+
 /**
  * Interface defining the contract for the GameController in the Space Invaders game.
  * It includes methods for handling player and enemy movements, shooting actions, game state management,
@@ -43,6 +45,14 @@ public interface IGameController {
      */
     void setGameState(GameState state);
 
+    /**
+     * Retrieves the latest published copy of the game state, so a whole frame can be drawn from a single consistent state.
+     * Must only be called from the rendering thread.
+     *
+     * @return The latest game state snapshot, unchanged until the next call to this method or a state getter.
+     */
+    GameSnapshot getSnapshot();
+
     /**
      * Retrieves the x-coordinate of the player.
      *
@@ -72,6 +82,15 @@ public interface IGameController {
      */
     int[] getBulletPosition(int index);
 
+    /**
+     * Copies the positions of all bullets into an array as x and y pairs, without allocating.
+     * If the array is too short, only as many bullets as fit are copied.
+     *
+     * @param dest The array to copy into.
+     * @return The number of bullets copied.
+     */
+    int copyBulletPositions(int[] dest);
+
     /**
      * Retrieves the count of remaining lives for the player.
      *
@@ -84,6 +103,14 @@ public interface IGameController {
      */
     void updateGame();
 
+    /**
+     * Advances the simulation to the given time by running as many fixed-length updates as are due.
+     *
+     * @param nowNanos The current time, in nanoseconds, as returned by {@link System#nanoTime()}.
+     * @return The number of updates run.
+     */
+    int advance(long nowNanos);
+
     /**
      * Checks if a star exists in the game.
      *
@@ -141,6 +168,15 @@ public interface IGameController {
      */
     int[] getEnemyBulletPosition(int index);
 
+    /**
+     * Copies the positions of all enemy bullets into an array as x and y pairs, without allocating.
+     * If the array is too short, only as many bullets as fit are copied.
+     *
+     * @param dest The array to copy into.
+     * @return The number of enemy bullets copied.
+     */
+    int copyEnemyBulletPositions(int[] dest);
+
     /**
      * Retrieves the current score of the enemy.
      *
@@ -167,6 +203,11 @@ public interface IGameController {
      */
     void resetGame();
 
+    /**
+     * Shuts the game down, stopping any work the controller runs in the background and closing the model.
+     */
+    void shutdown();
+
     /**
      * Handles key press events to control game functionality.
      *
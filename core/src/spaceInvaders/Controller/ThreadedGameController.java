@@ -0,0 +1,286 @@
+package spaceInvaders.Controller;
+
+import spaceInvaders.Model.GameSnapshot;
+import spaceInvaders.Model.IGameModel;
+import spaceInvaders.Model.TickClock;
+import spaceInvaders.View.IGameView;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The ThreadedGameController class runs the game simulation on a dedicated thread of its own.
+ * The simulation thread is the only thread that ever changes the game model. Input from the view is
+ * not applied directly; it is put on a queue and applied by the simulation thread before its next step.
+ * The view only reads the state the wrapped {@link GameController} publishes after every change, so a slow
+ * frame never delays the simulation and the renderer never sees the model half-way through an update.
+ * Example usage:
+ * {@code
+ *     ThreadedGameController controller = new ThreadedGameController(new GameModel(), view);
+ *     controller.start();
+ *     // ...
+ *     controller.shutdown();
+ * }
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class ThreadedGameController implements IGameController {
+    /**
+     * The controller that owns the model. Only the simulation thread calls its mutating methods.
+     */
+    private final GameController delegate;
+
+    /**
+     * Fixed timestep deciding when the simulation thread runs the next step.
+     */
+    private final FixedTimestep timestep;
+
+    /**
+     * Input waiting to be applied by the simulation thread.
+     */
+    private final Queue<Runnable> inputs = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of simulation steps run since the view last called {@link #advance(long)}.
+     */
+    private final AtomicInteger stepsSinceLastFrame = new AtomicInteger();
+
+    /**
+     * The simulation thread, or null if it has not been started.
+     */
+    private volatile Thread simulationThread;
+
+    /**
+     * Flag indicating whether the simulation thread should keep running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Constructor to initialize the controller with a specific game model and view.
+     * The game is simulated at {@link TickClock#DEFAULT_TICKS_PER_SECOND} steps per second.
+     *
+     * @param model The game model to be used for game logic. It must not be changed by any other thread.
+     * @param view  The game view to be used for rendering.
+     */
+    public ThreadedGameController(IGameModel model, IGameView view) {
+        this(model, view, new FixedTimestep(TickClock.DEFAULT_TICKS_PER_SECOND, FixedTimestep.DEFAULT_MAX_STEPS_PER_FRAME));
+    }
+
+    /**
+     * Constructor to initialize the controller with a specific game model, view and simulation timestep.
+     *
+     * @param model    The game model to be used for game logic. It must not be changed by any other thread.
+     * @param view     The game view to be used for rendering.
+     * @param timestep The timestep deciding when to run each simulation step.
+     */
+    public ThreadedGameController(IGameModel model, IGameView view, FixedTimestep timestep) {
+        this.timestep = timestep;
+        this.delegate = new GameController(model, view, timestep);
+        view.setController(this);
+    }
+
+    /**
+     * Starts the simulation thread.
+     *
+     * @throws IllegalStateException If the simulation thread has already been started.
+     */
+    public synchronized void start() {
+        if (simulationThread != null) { throw new IllegalStateException("Simulation thread already started"); }
+        running = true;
+        simulationThread = new Thread(this::runSimulation, "Simulation");
+        simulationThread.setDaemon(true);
+        simulationThread.start();
+    }
+
+    /**
+     * The body of the simulation thread. Applies queued input, runs every step that is due and then sleeps
+     * until the next step is due or new input arrives.
+     */
+    private void runSimulation() {
+        while (running) {
+            applyInputs();
+            stepsSinceLastFrame.addAndGet(delegate.advance(System.nanoTime()));
+            if (inputs.isEmpty()) {
+                LockSupport.parkNanos(this, timestep.nanosUntilNextStep(System.nanoTime()));
+            }
+        }
+    }
+
+    /**
+     * Applies all queued input, in the order it was received.
+     */
+    private void applyInputs() {
+        Runnable input;
+        while ((input = inputs.poll()) != null) {
+            try {
+                input.run();
+            } catch (Exception e) {
+                System.err.println("Error applying input: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Queues input to be applied by the simulation thread and wakes the thread up.
+     *
+     * @param input The input to apply.
+     */
+    private void submit(Runnable input) {
+        inputs.add(input);
+        Thread thread = simulationThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Stops the simulation thread, waits for it to finish and closes the model.
+     */
+    @Override
+    public void shutdown() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = simulationThread;
+        }
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        delegate.shutdown();
+    }
+
+    /**
+     * Queues a player move.
+     *
+     * @param dx The change in the x-direction (-1, 0, or 1).
+     * @param dy The change in the y-direction (-1, 0, or 1).
+     */
+    @Override
+    public void movePlayer(int dx, int dy) { submit(() -> delegate.movePlayer(dx, dy)); }
+
+    /**
+     * Queues a player shot.
+     */
+    @Override
+    public void shootBullet() { submit(delegate::shootBullet); }
+
+    /**
+     * Queues an enemy move.
+     *
+     * @param dx The change in the x-direction (-1, 0, or 1).
+     * @param dy The change in the y-direction (-1, 0, or 1).
+     */
+    @Override
+    public void moveEnemy(int dx, int dy) { submit(() -> delegate.moveEnemy(dx, dy)); }
+
+    /**
+     * Queues an enemy shot.
+     */
+    @Override
+    public void shootEnemyBullet() { submit(delegate::shootEnemyBullet); }
+
+    /**
+     * Queues a change of game state.
+     *
+     * @param state The new state to set the game to.
+     */
+    @Override
+    public void setGameState(GameState state) { submit(() -> delegate.setGameState(state)); }
+
+    /**
+     * Queues a reset of the game.
+     */
+    @Override
+    public void resetGame() { submit(delegate::resetGame); }
+
+    /**
+     * Queues a key press.
+     *
+     * @param key     The character of the key pressed.
+     * @param keyCode The keycode of the key pressed.
+     */
+    @Override
+    public void handleKeyPress(char key, int keyCode) { submit(() -> delegate.handleKeyPress(key, keyCode)); }
+
+    /**
+     * Does nothing. The simulation thread decides when to update the game.
+     */
+    @Override
+    public void updateGame() {
+        // Updates only ever run on the simulation thread.
+    }
+
+    /**
+     * Reports how many simulation steps the simulation thread has run since the previous call.
+     * No steps are run by the calling thread.
+     *
+     * @param nowNanos The current time, in nanoseconds. Not used.
+     * @return The number of steps run since the previous call.
+     */
+    @Override
+    public int advance(long nowNanos) { return stepsSinceLastFrame.getAndSet(0); }
+
+    // Published state, read from the wrapped controller
+    @Override
+    public GameSnapshot getSnapshot() { return delegate.getSnapshot(); }
+    @Override
+    public int getPlayerX() { return delegate.getPlayerX(); }
+    @Override
+    public int getPlayerY() { return delegate.getPlayerY(); }
+    @Override
+    public int getBulletCount() { return delegate.getBulletCount(); }
+    @Override
+    public int[] getBulletPosition(int index) { return delegate.getBulletPosition(index); }
+    @Override
+    public int copyBulletPositions(int[] dest) { return delegate.copyBulletPositions(dest); }
+    @Override
+    public int getLifeCount() { return delegate.getLifeCount(); }
+    @Override
+    public boolean isStarExists() { return delegate.isStarExists(); }
+    @Override
+    public int[] getStarPosition() { return delegate.getStarPosition(); }
+    @Override
+    public int getScore() { return delegate.getScore(); }
+    @Override
+    public boolean isGameOver() { return delegate.isGameOver(); }
+    @Override
+    public int getEnemyX() { return delegate.getEnemyX(); }
+    @Override
+    public int getEnemyY() { return delegate.getEnemyY(); }
+    @Override
+    public int getEnemyBulletCount() { return delegate.getEnemyBulletCount(); }
+    @Override
+    public int[] getEnemyBulletPosition(int index) { return delegate.getEnemyBulletPosition(index); }
+    @Override
+    public int copyEnemyBulletPositions(int[] dest) { return delegate.copyEnemyBulletPositions(dest); }
+    @Override
+    public int getEnemyScore() { return delegate.getEnemyScore(); }
+    @Override
+    public int getEnemyLives() { return delegate.getEnemyLives(); }
+    @Override
+    public int getPlayerLives() { return delegate.getPlayerLives(); }
+    @Override
+    public boolean isGameRunning() { return delegate.isGameRunning(); }
+    @Override
+    public boolean isGamePaused() { return delegate.isGamePaused(); }
+    @Override
+    public boolean isStartScreen() { return delegate.isStartScreen(); }
+
+    /**
+     * Converts the state of the controller to a string representation.
+     *
+     * @return A string representation of the controller, including the wrapped controller and whether the simulation thread is running.
+     */
+    @Override
+    public String toString() {
+        return "ThreadedGameController {\n  Running: " + running + "\n  Delegate: " + delegate + "}\n";
+    }
+}
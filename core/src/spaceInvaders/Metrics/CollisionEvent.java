@@ -0,0 +1,78 @@
+package spaceInvaders.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted when a bullet in the Space Invaders game hits a ship or the star.
+ * When the event is not being recorded, {@link #emit(String, String, int, int)} allocates nothing.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+@Name("spaceInvaders.Collision")
+@Label("Bullet Collision")
+@Category({"Space Invaders", "Simulation"})
+@Description("A bullet hitting a ship or the star")
+@StackTrace(false)
+public final class CollisionEvent extends Event {
+    /**
+     * The registered type of this event, used to check whether it is being recorded without creating an event.
+     */
+    private static final EventType TYPE = EventType.getEventType(CollisionEvent.class);
+
+    /**
+     * The side that fired the bullet, "player" or "enemy".
+     */
+    @Label("Shooter")
+    String shooter;
+
+    /**
+     * What the bullet hit, "player", "enemy" or "star".
+     */
+    @Label("Target")
+    String target;
+
+    /**
+     * The x-coordinate of the bullet when it hit.
+     */
+    @Label("X")
+    int x;
+
+    /**
+     * The y-coordinate of the bullet when it hit.
+     */
+    @Label("Y")
+    int y;
+
+    /**
+     * Constructs an event. Use {@link #emit(String, String, int, int)} so no event is created when recording is off.
+     */
+    private CollisionEvent() {
+        // Fields are filled in by emit.
+    }
+
+    /**
+     * Records a collision, if collision events are being recorded.
+     *
+     * @param shooter The side that fired the bullet.
+     * @param target  What the bullet hit.
+     * @param x       The x-coordinate of the bullet.
+     * @param y       The y-coordinate of the bullet.
+     */
+    public static void emit(String shooter, String target, int x, int y) {
+        if (TYPE.isEnabled()) {
+            CollisionEvent event = new CollisionEvent();
+            event.shooter = shooter;
+            event.target = target;
+            event.x = x;
+            event.y = y;
+            event.commit();
+        }
+    }
+}
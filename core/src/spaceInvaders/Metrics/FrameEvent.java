@@ -0,0 +1,86 @@
+package spaceInvaders.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted for every frame drawn by the Space Invaders game.
+ * The event spans the whole frame, including the simulation steps run at its start, so a stutter on screen can be
+ * matched with the updates and garbage collection pauses around it.
+ * When the event is not being recorded, {@link #beginIfRecording()} returns null and nothing is allocated.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+@Name("spaceInvaders.Frame")
+@Label("Frame")
+@Category({"Space Invaders", "Rendering"})
+@Description("One frame drawn by the game view")
+@StackTrace(false)
+public final class FrameEvent extends Event {
+    /**
+     * The registered type of this event, used to check whether it is being recorded without creating an event.
+     */
+    private static final EventType TYPE = EventType.getEventType(FrameEvent.class);
+
+    /**
+     * Number of simulation steps run at the start of the frame.
+     */
+    @Label("Simulation Steps")
+    int steps;
+
+    /**
+     * Number of player bullets drawn.
+     */
+    @Label("Player Bullets")
+    int bulletCount;
+
+    /**
+     * Number of enemy bullets drawn.
+     */
+    @Label("Enemy Bullets")
+    int enemyBulletCount;
+
+    /**
+     * Constructs an event. Use {@link #beginIfRecording()} so no event is created when recording is off.
+     */
+    private FrameEvent() {
+        // Fields are filled in when the frame ends.
+    }
+
+    /**
+     * Starts an event for a frame, if frame events are being recorded.
+     *
+     * @return The started event, or null if frame events are not being recorded.
+     */
+    public static FrameEvent beginIfRecording() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        FrameEvent event = new FrameEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it to the recording, unless it is shorter than the configured threshold.
+     *
+     * @param steps            Number of simulation steps run at the start of the frame.
+     * @param bulletCount      Number of player bullets drawn.
+     * @param enemyBulletCount Number of enemy bullets drawn.
+     */
+    public void finish(int steps, int bulletCount, int enemyBulletCount) {
+        end();
+        if (shouldCommit()) {
+            this.steps = steps;
+            this.bulletCount = bulletCount;
+            this.enemyBulletCount = enemyBulletCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package spaceInvaders.Metrics;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of latencies recorded in the Space Invaders game, used to report percentiles of how long each phase takes.
+ * Values below 32 nanoseconds are counted exactly. Larger values are counted in buckets that split every power of two
+ * into 16 equal parts, so a reported percentile is never more than about 6% above the true value.
+ *
+ * All storage is allocated when the histogram is created, so recording never allocates. A histogram is written by one
+ * thread; reading it from another thread while it is being written gives approximate, but never corrupt, results.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class LatencyHistogram {
+    /**
+     * The number of values below which every value has its own bucket.
+     */
+    private static final int EXACT_BUCKETS = 32;
+
+    /**
+     * The number of buckets each power of two above {@link #EXACT_BUCKETS} is split into.
+     */
+    private static final int SUB_BUCKETS = 16;
+
+    /**
+     * The total number of buckets, enough for any non-negative long.
+     */
+    private static final int BUCKET_COUNT = EXACT_BUCKETS + 58 * SUB_BUCKETS;
+
+    /**
+     * The number of values recorded in each bucket.
+     */
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    /**
+     * The number of values recorded.
+     */
+    private long count;
+
+    /**
+     * The sum of all values recorded.
+     * The smallest value recorded.
+     * The largest value recorded.
+     */
+    private long total, min = Long.MAX_VALUE, max;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        // Buckets are allocated up front.
+    }
+
+    /**
+     * Records a latency. Negative values are recorded as zero.
+     *
+     * @param nanos The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Gets the number of values recorded.
+     *
+     * @return The number of values.
+     */
+    public long getCount() { return count; }
+
+    /**
+     * Gets the smallest value recorded.
+     *
+     * @return The smallest value in nanoseconds, or zero if nothing was recorded.
+     */
+    public long getMin() { return count == 0 ? 0 : min; }
+
+    /**
+     * Gets the largest value recorded.
+     *
+     * @return The largest value in nanoseconds.
+     */
+    public long getMax() { return max; }
+
+    /**
+     * Gets the mean of the values recorded.
+     *
+     * @return The mean in nanoseconds, or zero if nothing was recorded.
+     */
+    public double getMean() { return count == 0 ? 0 : (double) total / count; }
+
+    /**
+     * Gets the value below or at which the given percentage of the recorded values lie.
+     * The result is the upper bound of the bucket holding that value, capped at the largest value recorded.
+     *
+     * @param percentile The percentage, between 0 and 100.
+     * @return The percentile value in nanoseconds, or zero if nothing was recorded.
+     * @throws IllegalArgumentException If the percentage is outside 0 to 100.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) { throw new IllegalArgumentException("Percentile must be between 0 and 100"); }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(max, upperBoundOf(bucket));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the bucket a value is counted in.
+     *
+     * @param value The value, not negative.
+     * @return The index of the bucket.
+     */
+    static int bucketOf(long value) {
+        if (value < EXACT_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 4; // Leaves the top five bits, 16 to 31
+        return EXACT_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Gets the largest value counted in a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The largest value of the bucket.
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < EXACT_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT_BUCKETS) / SUB_BUCKETS + 1;
+        long top = (bucket - EXACT_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
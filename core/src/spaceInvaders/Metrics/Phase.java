@@ -0,0 +1,39 @@
+package spaceInvaders.Metrics;
+
+/**
+ * Enum representing the phases of the Space Invaders game whose latency is measured.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public enum Phase {
+    /**
+     * A whole game update.
+     */
+    TICK,
+
+    /**
+     * Rebuilding the collision grid at the start of an update.
+     */
+    COLLISION_GRID,
+
+    /**
+     * Moving the player bullets and resolving their collisions.
+     */
+    UPDATE_BULLETS,
+
+    /**
+     * Moving the enemy bullets and resolving their collisions.
+     */
+    UPDATE_ENEMY_BULLETS,
+
+    /**
+     * Showing, moving and hiding the star.
+     */
+    STAR,
+
+    /**
+     * Drawing a frame.
+     */
+    RENDER
+}
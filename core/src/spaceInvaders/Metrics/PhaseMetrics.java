@@ -0,0 +1,93 @@
+package spaceInvaders.Metrics;
+
+import java.io.PrintStream;
+
+/**
+ * Latency histograms for each {@link Phase} of the Space Invaders game.
+ * The game model records the update phases and the view records rendering. Recording never allocates, so the
+ * metrics can stay switched on in normal play. A report of the percentiles can be written at any time.
+ * Example usage:
+ * {@code
+ *     PhaseMetrics metrics = new PhaseMetrics();
+ *     model.setMetrics(metrics);
+ *     // ...
+ *     metrics.writeReport(System.out);
+ * }
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class PhaseMetrics {
+    /**
+     * The percentiles shown in reports.
+     */
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9};
+
+    /**
+     * One histogram for each phase, indexed by the phase's ordinal.
+     */
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+
+    /**
+     * Constructs a new set of empty histograms.
+     */
+    public PhaseMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records how long a phase took.
+     *
+     * @param phase The phase.
+     * @param nanos The time the phase took, in nanoseconds.
+     */
+    public void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Gets the histogram of a phase.
+     *
+     * @param phase The phase.
+     * @return The histogram of the phase.
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Removes all recorded values from every phase.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Writes a table of the count, mean, percentiles and maximum of every phase that has been recorded.
+     * Times are shown in microseconds.
+     *
+     * @param out The stream to write the report to.
+     */
+    public void writeReport(PrintStream out) {
+        out.printf("%-22s %10s %10s", "Phase", "Count", "Mean");
+        for (double percentile : REPORTED_PERCENTILES) {
+            out.printf(" %10s", "p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile)));
+        }
+        out.printf(" %10s%n", "Max");
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram histogram = getHistogram(phase);
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            out.printf("%-22s %10d %10.2f", phase, histogram.getCount(), histogram.getMean() / 1e3);
+            for (double percentile : REPORTED_PERCENTILES) {
+                out.printf(" %10.2f", histogram.getPercentile(percentile) / 1e3);
+            }
+            out.printf(" %10.2f%n", histogram.getMax() / 1e3);
+        }
+    }
+}
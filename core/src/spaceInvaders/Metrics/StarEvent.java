@@ -0,0 +1,93 @@
+package spaceInvaders.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted when the star in the Space Invaders game appears, expires or is collected.
+ * When the event is not being recorded, {@link #emit(String, String, int, int)} allocates nothing.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+@Name("spaceInvaders.Star")
+@Label("Star")
+@Category({"Space Invaders", "Simulation"})
+@Description("The star appearing, expiring or being collected")
+@StackTrace(false)
+public final class StarEvent extends Event {
+    /**
+     * Action of a star that has appeared.
+     */
+    public static final String SPAWNED = "spawned";
+
+    /**
+     * Action of a star that was moved away without being hit.
+     */
+    public static final String EXPIRED = "expired";
+
+    /**
+     * Action of a star that was hit by a bullet.
+     */
+    public static final String COLLECTED = "collected";
+
+    /**
+     * The registered type of this event, used to check whether it is being recorded without creating an event.
+     */
+    private static final EventType TYPE = EventType.getEventType(StarEvent.class);
+
+    /**
+     * What happened to the star: {@link #SPAWNED}, {@link #EXPIRED} or {@link #COLLECTED}.
+     */
+    @Label("Action")
+    String action;
+
+    /**
+     * The side that collected the star, or null if it was not collected.
+     */
+    @Label("Collector")
+    String collector;
+
+    /**
+     * The x-coordinate of the star.
+     */
+    @Label("X")
+    int x;
+
+    /**
+     * The y-coordinate of the star.
+     */
+    @Label("Y")
+    int y;
+
+    /**
+     * Constructs an event. Use {@link #emit(String, String, int, int)} so no event is created when recording is off.
+     */
+    private StarEvent() {
+        // Fields are filled in by emit.
+    }
+
+    /**
+     * Records a change of the star, if star events are being recorded.
+     *
+     * @param action    What happened to the star.
+     * @param collector The side that collected the star, or null.
+     * @param x         The x-coordinate of the star.
+     * @param y         The y-coordinate of the star.
+     */
+    public static void emit(String action, String collector, int x, int y) {
+        if (TYPE.isEnabled()) {
+            StarEvent event = new StarEvent();
+            event.action = action;
+            event.collector = collector;
+            event.x = x;
+            event.y = y;
+            event.commit();
+        }
+    }
+}
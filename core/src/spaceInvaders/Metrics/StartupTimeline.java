@@ -0,0 +1,191 @@
+package spaceInvaders.Metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The StartupTimeline class records when each milestone of starting the Space Invaders game is reached, from the
+ * start of the JVM to the first frame drawn or the first tick simulated. Each milestone is recorded the first time
+ * it is marked; later marks are ignored, so marking costs one comparison once the game is running.
+ *
+ * Times are kept as microseconds since the epoch, so they can be compared with timestamps taken by another
+ * process, such as a harness that launches the game. When the game is launched with the system property
+ * {@value #PROBE_PROPERTY} set to {@code true}, it writes the timeline as a single line on standard output and exits
+ * once it has started. That line is read back with {@link #parse(String)}.
+ * Example usage:
+ * {@code
+ *     StartupTimeline.process().mark(StartupTimeline.Mark.MAIN);
+ *     // ... once the first frame has been drawn:
+ *     if (StartupTimeline.process().mark(StartupTimeline.Mark.FIRST_FRAME) && StartupTimeline.isProbe()) {
+ *         StartupTimeline.process().writeReport(System.out);
+ *     }
+ * }
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class StartupTimeline {
+    /**
+     * System property that makes the game report its startup timeline and exit once it has started.
+     */
+    public static final String PROBE_PROPERTY = "spaceInvaders.startupProbe";
+
+    /**
+     * The word starting the report line, followed by one {@code <mark>=<microseconds>} pair per recorded mark.
+     */
+    public static final String REPORT_PREFIX = "startup-timeline";
+
+    /**
+     * The milestones of starting the game, in the order they are reached.
+     */
+    public enum Mark {
+        /**
+         * The JVM started, before any class of the game was loaded.
+         */
+        JVM_START,
+
+        /**
+         * The main method was entered.
+         */
+        MAIN,
+
+        /**
+         * The game model was constructed.
+         */
+        MODEL_CONSTRUCTED,
+
+        /**
+         * The view finished its setup.
+         */
+        SETUP_DONE,
+
+        /**
+         * The first frame was drawn.
+         */
+        FIRST_FRAME,
+
+        /**
+         * The first tick was simulated, when running without a display.
+         */
+        FIRST_TICK
+    }
+
+    /**
+     * The timeline of this process.
+     */
+    private static final StartupTimeline PROCESS = new StartupTimeline();
+
+    /**
+     * The clock readings taken when the timeline was created: the epoch time in microseconds, and the
+     * monotonic time in nanoseconds. Later marks are read from the monotonic clock and converted through these.
+     */
+    private final long originEpochMicros, originNanos;
+
+    /**
+     * The time of each mark in microseconds since the epoch, or zero if it has not been recorded.
+     */
+    private final AtomicLongArray marks = new AtomicLongArray(Mark.values().length);
+
+    /**
+     * Constructs an empty timeline.
+     */
+    public StartupTimeline() {
+        this.originNanos = System.nanoTime();
+        this.originEpochMicros = System.currentTimeMillis() * 1000;
+    }
+
+    /**
+     * Gets the timeline of this process, which the game marks as it starts.
+     *
+     * @return The process's timeline.
+     */
+    public static StartupTimeline process() {
+        return PROCESS;
+    }
+
+    /**
+     * Checks whether the game was launched to report its startup timeline and exit.
+     *
+     * @return True if the {@value #PROBE_PROPERTY} system property is {@code true}.
+     */
+    public static boolean isProbe() {
+        return Boolean.getBoolean(PROBE_PROPERTY);
+    }
+
+    /**
+     * Records a mark at the current time, unless it has already been recorded.
+     *
+     * @param mark The milestone reached.
+     * @return True if this call recorded the mark, false if it had already been recorded.
+     */
+    public boolean mark(Mark mark) {
+        return mark(mark, originEpochMicros + (System.nanoTime() - originNanos) / 1000);
+    }
+
+    /**
+     * Records a mark at the given time, unless it has already been recorded.
+     *
+     * @param mark        The milestone reached.
+     * @param epochMicros The time it was reached, in microseconds since the epoch.
+     * @return True if this call recorded the mark, false if it had already been recorded.
+     * @throws IllegalArgumentException If the time is not positive.
+     */
+    public boolean mark(Mark mark, long epochMicros) {
+        if (epochMicros <= 0) { throw new IllegalArgumentException("Time must be positive"); }
+        return marks.compareAndSet(mark.ordinal(), 0, epochMicros);
+    }
+
+    /**
+     * Gets the time a mark was recorded.
+     *
+     * @param mark The milestone.
+     * @return The time in microseconds since the epoch, or zero if it has not been recorded.
+     */
+    public long getEpochMicros(Mark mark) {
+        return marks.get(mark.ordinal());
+    }
+
+    /**
+     * Writes the recorded marks as a single report line. The JVM's start time is recorded first if it has not been.
+     *
+     * @param out The stream to write the report to.
+     */
+    public void writeReport(PrintStream out) {
+        mark(Mark.JVM_START, ManagementFactory.getRuntimeMXBean().getStartTime() * 1000);
+        StringBuilder line = new StringBuilder(REPORT_PREFIX);
+        for (Mark mark : Mark.values()) {
+            long micros = getEpochMicros(mark);
+            if (micros != 0) {
+                line.append(' ').append(mark.name().toLowerCase(Locale.ROOT)).append('=').append(micros);
+            }
+        }
+        out.println(line);
+    }
+
+    /**
+     * Parses a report line written by {@link #writeReport(PrintStream)}.
+     *
+     * @param line The report line.
+     * @return The time of each recorded mark in microseconds since the epoch, in the order of the marks.
+     * @throws IllegalArgumentException If the line is not a report or a mark cannot be parsed.
+     */
+    public static Map<Mark, Long> parse(String line) {
+        String[] parts = line.trim().split("\\s+");
+        if (!parts[0].equals(REPORT_PREFIX)) { throw new IllegalArgumentException("Not a startup timeline: " + line); }
+        Map<Mark, Long> marks = new EnumMap<>(Mark.class);
+        for (int i = 1; i < parts.length; i++) {
+            int equals = parts[i].indexOf('=');
+            if (equals < 0) { throw new IllegalArgumentException("Expected '<mark>=<microseconds>' but got: " + parts[i]); }
+            try {
+                marks.put(Mark.valueOf(parts[i].substring(0, equals).toUpperCase(Locale.ROOT)), Long.parseLong(parts[i].substring(equals + 1)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid mark: " + parts[i], e);
+            }
+        }
+        return marks;
+    }
+}
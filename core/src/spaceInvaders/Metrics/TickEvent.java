@@ -0,0 +1,121 @@
+package spaceInvaders.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event emitted for every update of the Space Invaders game.
+ * The event spans the whole update and records the number of bullets in flight and the time taken by each phase,
+ * so slow updates can be lined up with garbage collection pauses and other JVM activity in the same recording.
+ * When the event is not being recorded, {@link #beginIfRecording()} returns null and nothing is allocated.
+ * Callers check {@link jdk.jfr.FlightRecorder#isInitialized()} first, as loading this class starts up the recorder.
+ * Example usage:
+ * {@code
+ *     java -XX:StartFlightRecording=filename=game.jfr,settings=profile spaceInvaders.Main.Main
+ *     jfr print --events spaceInvaders.Tick game.jfr
+ * }
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+@Name("spaceInvaders.Tick")
+@Label("Game Tick")
+@Category({"Space Invaders", "Simulation"})
+@Description("One update of the game simulation")
+@StackTrace(false)
+public final class TickEvent extends Event {
+    /**
+     * The registered type of this event, used to check whether it is being recorded without creating an event.
+     */
+    private static final EventType TYPE = EventType.getEventType(TickEvent.class);
+
+    /**
+     * Number of player bullets in flight after the update.
+     */
+    @Label("Player Bullets")
+    int bulletCount;
+
+    /**
+     * Number of enemy bullets in flight after the update.
+     */
+    @Label("Enemy Bullets")
+    int enemyBulletCount;
+
+    /**
+     * Time taken to rebuild the collision grid.
+     */
+    @Label("Collision Grid")
+    @Timespan(Timespan.NANOSECONDS)
+    long collisionGridTime;
+
+    /**
+     * Time taken to move the player bullets and resolve their collisions.
+     */
+    @Label("Player Bullets Update")
+    @Timespan(Timespan.NANOSECONDS)
+    long bulletsTime;
+
+    /**
+     * Time taken to move the enemy bullets and resolve their collisions.
+     */
+    @Label("Enemy Bullets Update")
+    @Timespan(Timespan.NANOSECONDS)
+    long enemyBulletsTime;
+
+    /**
+     * Time taken to update the star.
+     */
+    @Label("Star Update")
+    @Timespan(Timespan.NANOSECONDS)
+    long starTime;
+
+    /**
+     * Constructs an event. Use {@link #beginIfRecording()} so no event is created when recording is off.
+     */
+    private TickEvent() {
+        // Fields are filled in when the update ends.
+    }
+
+    /**
+     * Starts an event for an update, if tick events are being recorded.
+     *
+     * @return The started event, or null if tick events are not being recorded.
+     */
+    public static TickEvent beginIfRecording() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        TickEvent event = new TickEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it to the recording, unless it is shorter than the configured threshold.
+     *
+     * @param bulletCount       Number of player bullets in flight after the update.
+     * @param enemyBulletCount  Number of enemy bullets in flight after the update.
+     * @param collisionGridTime Time taken to rebuild the collision grid, in nanoseconds.
+     * @param bulletsTime       Time taken to update the player bullets, in nanoseconds.
+     * @param enemyBulletsTime  Time taken to update the enemy bullets, in nanoseconds.
+     * @param starTime          Time taken to update the star, in nanoseconds.
+     */
+    public void finish(int bulletCount, int enemyBulletCount, long collisionGridTime, long bulletsTime, long enemyBulletsTime, long starTime) {
+        end();
+        if (shouldCommit()) {
+            this.bulletCount = bulletCount;
+            this.enemyBulletCount = enemyBulletCount;
+            this.collisionGridTime = collisionGridTime;
+            this.bulletsTime = bulletsTime;
+            this.enemyBulletsTime = enemyBulletsTime;
+            this.starTime = starTime;
+            commit();
+        }
+    }
+}
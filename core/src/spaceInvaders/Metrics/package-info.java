@@ -0,0 +1,12 @@
+/**
+ * The "spaceInvaders.Metrics" package contains classes for measuring how long the phases of the Space Invaders
+ * game take. This includes allocation-free latency histograms and a set of histograms covering the game update
+ * and rendering, which can be exported as a report while the game is running or at the end of a headless run.
+ * It also holds the Java Flight Recorder events of the game. Loading the first event class starts up the recorder,
+ * which adds a noticeable delay to launch, so the game only touches them once
+ * {@link jdk.jfr.FlightRecorder#isInitialized()} is true.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+package spaceInvaders.Metrics;
@@ -8,16 +8,21 @@ package spaceInvaders.Model;
  * @version 1.0
  * @author MD Amanullah
  */
-public class Bullet {
+public class Bullet implements Collidable {
     /**
      * The X coordinate of the bullet.
      * The Y coordinate of the bullet.
      */
     private int x, y; // X and Y coordinates of the bullet
+    /**
+     * The speed of all player bullets, in pixels per update.
+     */
+    public static final int SPEED = 10;
+
     /**
      * The speed of the bullet, determining how fast it moves.
      */
-    private final int speed = 10;
+    private final int speed = SPEED;
 
     /**
      * The width of the bullet.
@@ -50,7 +55,15 @@ public class Bullet {
      *
      * @return true if the bullet is off the screen, false otherwise.
      */
-    public boolean isOffScreen() { return y < -HEIGHT; } // Bullet is off-screen if its top has moved past the top of the screen
+    public boolean isOffScreen() { return isOffScreen(y); }
+
+    /**
+     * Checks if a bullet at the given y-coordinate is off the screen.
+     *
+     * @param y The y-coordinate of the bullet.
+     * @return true if a bullet at that position is off the screen, false otherwise.
+     */
+    public static boolean isOffScreen(int y) { return y < -HEIGHT; } // Bullet is off-screen if its top has moved past the top of the screen
 
 
     /**
@@ -58,6 +71,7 @@ public class Bullet {
      *
      * @return The x-coordinate of the bullet.
      */
+    @Override
     public int getX() {
         return x;
     }
@@ -67,10 +81,30 @@ public class Bullet {
      *
      * @return The y-coordinate of the bullet.
      */
+    @Override
     public int getY() {
         return y;
     }
 
+    /**
+     * Gets the width of the bullet.
+     *
+     * @return The width of the bullet.
+     */
+    @Override
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    /**
+     * Gets the height of the bullet.
+     *
+     * @return The height of the bullet.
+     */
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
 
  /*  @Override
     public String toString() {
@@ -0,0 +1,70 @@
+package spaceInvaders.Model;
+
+/**
+ * Interface for game entities that take part in collision detection in the Space Invaders game.
+ * Every collidable entity is described by an axis-aligned bounding box, and all entity types share
+ * the same box overlap test.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public interface Collidable {
+    /**
+     * Gets the X coordinate of the left edge of the entity.
+     *
+     * @return The X coordinate of the entity.
+     */
+    int getX();
+
+    /**
+     * Gets the Y coordinate of the top edge of the entity.
+     *
+     * @return The Y coordinate of the entity.
+     */
+    int getY();
+
+    /**
+     * Gets the width of the entity's bounding box.
+     *
+     * @return The width of the entity.
+     */
+    int getWidth();
+
+    /**
+     * Gets the height of the entity's bounding box.
+     *
+     * @return The height of the entity.
+     */
+    int getHeight();
+
+    /**
+     * Checks if the entity is hit by a bullet.
+     * This method is used for collision detection between the entity and a bullet.
+     *
+     * @param bulletX      The X coordinate of the bullet.
+     * @param bulletY      The Y coordinate of the bullet.
+     * @param bulletWidth  The width of the bullet.
+     * @param bulletHeight The height of the bullet.
+     * @return true if the bullet intersects with the entity, false otherwise.
+     */
+    default boolean isHit(int bulletX, int bulletY, int bulletWidth, int bulletHeight) {
+        return intersects(bulletX, bulletY, bulletWidth, bulletHeight, getX(), getY(), getWidth(), getHeight());
+    }
+
+    /**
+     * Checks if two axis-aligned boxes overlap. Boxes that only touch along an edge do not overlap.
+     *
+     * @param ax      The X coordinate of the first box.
+     * @param ay      The Y coordinate of the first box.
+     * @param aWidth  The width of the first box.
+     * @param aHeight The height of the first box.
+     * @param bx      The X coordinate of the second box.
+     * @param by      The Y coordinate of the second box.
+     * @param bWidth  The width of the second box.
+     * @param bHeight The height of the second box.
+     * @return true if the boxes overlap, false otherwise.
+     */
+    static boolean intersects(int ax, int ay, int aWidth, int aHeight, int bx, int by, int bWidth, int bHeight) {
+        return ax < bx + bWidth && ax + aWidth > bx && ay < by + bHeight && ay + aHeight > by;
+    }
+}
@@ -8,7 +8,7 @@ package spaceInvaders.Model;
  * @version 1.0
  * @author MD Amanullah
  */
-public class Enemy {
+public class Enemy implements Collidable {
     /**
      * The X coordinate of the enemy.
      * The Y coordinate of the enemy.
@@ -71,6 +71,7 @@ public class Enemy {
      *
      * @return The X coordinate of the enemy.
      */
+    @Override
     public int getX() {
         return x;
     }
@@ -80,10 +81,31 @@ public class Enemy {
      *
      * @return The Y coordinate of the enemy.
      */
+    @Override
     public int getY() {
         return y;
     }
 
+    /**
+     * Gets the width of the enemy.
+     *
+     * @return The width of the enemy.
+     */
+    @Override
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    /**
+     * Gets the height of the enemy.
+     *
+     * @return The height of the enemy.
+     */
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
     /**
      * Increases the number of lives of the enemy.
      *
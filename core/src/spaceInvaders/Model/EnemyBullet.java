@@ -8,16 +8,21 @@ package spaceInvaders.Model;
  * @version 1.0
  * @author MD Amanullah
  */
-public class EnemyBullet {
+public class EnemyBullet implements Collidable {
     /**
      * The X coordinate of the enemy bullet.
      * The Y coordinate of the enemy bullet.
      */
     private int x, y;
+    /**
+     * The speed of all enemy bullets, in pixels per update.
+     */
+    public static final int SPEED = 10;
+
     /**
      * The speed of the enemy bullet, determining how fast it moves.
      */
-    private final int speed = 10;
+    private final int speed = SPEED;
 
     /**
      * The width of the enemy bullet.
@@ -53,6 +58,16 @@ public class EnemyBullet {
      * @return true if the bullet is off the screen, false otherwise.
      */
     public boolean isOffScreen() {
+        return isOffScreen(y);
+    }
+
+    /**
+     * Checks if an enemy bullet at the given y-coordinate is off the screen.
+     *
+     * @param y The y-coordinate of the enemy bullet.
+     * @return true if a bullet at that position is off the screen, false otherwise.
+     */
+    public static boolean isOffScreen(int y) {
         return y + HEIGHT > 600; // Assuming the screen height is 600
     }
 
@@ -61,6 +76,7 @@ public class EnemyBullet {
      *
      * @return The X coordinate of the bullet.
      */
+    @Override
     public int getX() {
         return x;
     }
@@ -70,10 +86,31 @@ public class EnemyBullet {
      *
      * @return The Y coordinate of the bullet.
      */
+    @Override
     public int getY() {
         return y;
     }
 
+    /**
+     * Gets the width of the enemy bullet.
+     *
+     * @return The width of the enemy bullet.
+     */
+    @Override
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    /**
+     * Gets the height of the enemy bullet.
+     *
+     * @return The height of the enemy bullet.
+     */
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
    /* @Override
     public String toString() {
         return String.format("EnemyBullet [x=%d, y=%d, speed=%d, WIDTH=%d, HEIGHT=%d]",
@@ -0,0 +1,605 @@
+package spaceInvaders.Model;
+
+import jdk.jfr.FlightRecorder;
+import spaceInvaders.Metrics.CollisionEvent;
+import spaceInvaders.Metrics.Phase;
+import spaceInvaders.Metrics.PhaseMetrics;
+import spaceInvaders.Metrics.StarEvent;
+import spaceInvaders.Metrics.TickEvent;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * GameModel class implements the IGameModel interface and is responsible for managing the state of the Space Invaders game.
+ * It keeps track of game entities like the player, enemy, bullets, and stars, and handles the logic for updating their states.
+ * The class also manages the game's screen dimensions and initializes the starting positions of the player and enemy.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class GameModel implements IGameModel {
+    /**
+     * Constant representing the width of the game screen.
+     */
+    private static final int SCREEN_WIDTH = 1000;
+
+    /**
+     * Constant representing the height of the game screen.
+     */
+    private static final int SCREEN_HEIGHT = 600;
+
+    /**
+     * Default number of bullets each side can have in flight at once.
+     */
+    public static final int DEFAULT_PROJECTILE_CAPACITY = 256;
+
+    /**
+     * How long the star stays on screen before it is moved away, in milliseconds.
+     */
+    private static final long STAR_VISIBLE_MILLIS = 20000;
+
+    /**
+     * How long the game waits without a star before a new one appears, in milliseconds.
+     */
+    private static final long STAR_HIDDEN_MILLIS = 10000;
+
+    /**
+     * Minimum time between two consecutive shots from the same side, in milliseconds.
+     */
+    private static final long SHOT_COOLDOWN_MILLIS = 500;
+
+    /**
+     * Collision layer of the enemy.
+     */
+    private static final int LAYER_ENEMY = 1;
+
+    /**
+     * Collision layer of the player.
+     */
+    private static final int LAYER_PLAYER = 2;
+
+    /**
+     * Collision layer of the star.
+     */
+    private static final int LAYER_STAR = 4;
+
+
+    /**
+     * Initial X-coordinate for the player.
+     */
+    private static final int initialPlayerX = (SCREEN_WIDTH - Player.WIDTH) / 2;
+
+    /**
+     * Initial Y-coordinate for the player.
+     */
+    private static final int initialPlayerY = SCREEN_HEIGHT - Player.HEIGHT;
+
+    /**
+     * Initial X-coordinate for the enemy.
+     */
+    private static final int initialEnemyX = (SCREEN_WIDTH - Enemy.WIDTH) / 2;
+
+    /**
+     * Initial Y-coordinate for the enemy.
+     */
+    private static final int initialEnemyY = 10;
+
+    /**
+     * Instance of the player character.
+     */
+    private Player player;
+
+    /**
+     * Instance of the enemy character.
+     */
+    private Enemy enemy;
+
+
+    /**
+     * Store holding the bullets fired by the player.
+     */
+    private final ProjectileStore bullets;
+
+    /**
+     * Read-only view of the player bullets, exposed through {@link #getBullets()}.
+     */
+    private final List<Bullet> bulletView;
+
+    /**
+     * Store holding the bullets fired by the enemy.
+     */
+    private final ProjectileStore enemyBullets;
+
+    /**
+     * Read-only view of the enemy bullets, exposed through {@link #getEnemyBullets()}.
+     */
+    private final List<EnemyBullet> enemyBulletView;
+
+    /**
+     * Broadphase grid that the ships and the star are registered into at the start of every update.
+     * The cell size matches the width of a ship, which is a multiple of the bullet height, so a ship
+     * covers at most four cells and a bullet usually falls inside a single cell.
+     */
+    private final SpatialGrid collisionGrid = new SpatialGrid(SCREEN_WIDTH, SCREEN_HEIGHT, Enemy.WIDTH);
+
+    /**
+     * Id of the star in the collision grid, or -1 if the star is not registered.
+     */
+    private int starGridId = -1;
+
+    /**
+     * Instance of the star object in the game.
+     */
+    private Star star;
+
+    /**
+     * Flag indicating whether a star currently exists in the game.
+     */
+    private boolean starExists;
+
+    /**
+     * Timer measuring the time since the star last appeared or disappeared.
+     */
+    private final TickTimer starTimer = new TickTimer();
+
+    /**
+     * Random number generator for various game elements.
+     */
+    private final Random random;
+
+    /**
+     * Clock providing the simulation time used for shot cooldowns and star timing.
+     */
+    private final SimulationClock clock;
+
+    /**
+     * Flag to indicate whether the game has ended.
+     */
+    private boolean isGameOver;
+
+    /**
+     * Flag to indicate whether the model has been closed and no longer updates.
+     */
+    private boolean closed;
+
+
+    /**
+     * Timer measuring the time since the last shot fired by the player.
+     * This is used to implement a cooldown mechanism, ensuring that there is a delay
+     * between consecutive shots fired by the player.
+     */
+    private final TickTimer playerShotTimer = new TickTimer();
+
+    /**
+     * Timer measuring the time since the last shot fired by the enemy.
+     * Similar to playerShotTimer, this timer is used to enforce a delay
+     * between consecutive shots fired by the enemy.
+     */
+    private final TickTimer enemyShotTimer = new TickTimer();
+
+    /**
+     * Histograms recording how long each phase of an update takes, or null if updates are not timed.
+     */
+    private PhaseMetrics metrics;
+
+
+
+
+    /**
+     * Constructor for GameModel. Initializes the game by setting up the player, enemy,
+     * and bullets. Each side can have up to
+     * {@link #DEFAULT_PROJECTILE_CAPACITY} bullets in flight; further shots are dropped.
+     * Time advances by one {@link TickClock} step per update.
+     */
+    public GameModel() {
+        this(DEFAULT_PROJECTILE_CAPACITY, OverflowPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Constructor for GameModel with a custom clock and random number generator, for deterministic
+     * simulation. Two models given equivalent clocks and equally seeded generators play out the same
+     * match when given the same inputs.
+     *
+     * @param clock  The clock providing the simulation time.
+     * @param random The random number generator used for star placement.
+     * @throws IllegalArgumentException If the clock or the random number generator is null.
+     */
+    public GameModel(SimulationClock clock, Random random) {
+        this(clock, random, DEFAULT_PROJECTILE_CAPACITY, OverflowPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Constructor for GameModel with a custom bullet capacity. The bullet slots for both sides are
+     * allocated up front and recycled, so a match allocates nothing for bullets after construction
+     * unless the {@link OverflowPolicy#GROW} policy is used and the capacity is exceeded.
+     *
+     * @param projectileCapacity The number of bullets each side can have in flight at once.
+     * @param overflowPolicy     The policy applied when a side fires while its bullets are at capacity.
+     * @throws IllegalArgumentException If the capacity is not positive or the policy is null.
+     */
+    public GameModel(int projectileCapacity, OverflowPolicy overflowPolicy) {
+        this(new TickClock(), new Random(), projectileCapacity, overflowPolicy);
+    }
+
+    /**
+     * Constructor for GameModel with every setting given explicitly.
+     *
+     * @param clock              The clock providing the simulation time.
+     * @param random             The random number generator used for star placement.
+     * @param projectileCapacity The number of bullets each side can have in flight at once.
+     * @param overflowPolicy     The policy applied when a side fires while its bullets are at capacity.
+     * @throws IllegalArgumentException If the clock or random number generator is null, the capacity is not
+     *                                  positive, or the policy is null.
+     */
+    public GameModel(SimulationClock clock, Random random, int projectileCapacity, OverflowPolicy overflowPolicy) {
+        if (clock == null || random == null) { throw new IllegalArgumentException("Clock and random number generator must not be null"); }
+        this.clock = clock;
+        this.random = random;
+        player = new Player(initialPlayerX, initialPlayerY);
+        enemy = new Enemy(initialEnemyX, initialEnemyY);
+        bullets = new ProjectileStore(projectileCapacity, overflowPolicy);
+        bulletView = bullets.asList(Bullet::new);
+        enemyBullets = new ProjectileStore(projectileCapacity, overflowPolicy);
+        enemyBulletView = enemyBullets.asList(EnemyBullet::new);
+        isGameOver = false;
+    }
+
+    /**
+     * Moves the player character based on the given deltas in x and y direction.
+     *
+     * @param dx Delta for the x-axis movement.
+     * @param dy Delta for the y-axis movement.
+     */
+    @Override
+    public void movePlayer(int dx, int dy) { player.move(dx, dy); }
+
+    /**
+     * Moves the enemy character based on the given deltas in x and y direction.
+     *
+     * @param dx Delta for the x-axis movement.
+     * @param dy Delta for the y-axis movement.
+     */
+    @Override
+    public void moveEnemy(int dx, int dy) { enemy.move(dx, dy); }
+
+    /**
+     * Shoots a bullet from the player's position. The bullet is added to the bullet store.
+     */
+    public void shootBullet() {
+        long currentTime = clock.currentTimeMillis();
+        if (playerShotTimer.hasElapsed(currentTime, SHOT_COOLDOWN_MILLIS)) {
+            int bulletStartX = player.getX() + Player.WIDTH / 2 - Bullet.WIDTH / 2;
+            int bulletStartY = player.getY() - Bullet.HEIGHT;
+            bullets.add(bulletStartX, bulletStartY, -Bullet.SPEED);
+            playerShotTimer.restart(currentTime);
+        }
+    }
+
+    /**
+     * Places a player bullet at the given position without applying the shot cooldown.
+     * Used by simulations and stress tests that need many bullets in flight.
+     *
+     * @param x The x-coordinate of the bullet.
+     * @param y The y-coordinate of the bullet.
+     * @return true if the bullet was added, false if it was dropped because the bullets are at capacity.
+     */
+    public boolean spawnBullet(int x, int y) {
+        return bullets.add(x, y, -Bullet.SPEED);
+    }
+
+    /**
+     * Shoots a bullet from the enemy's position. The enemy bullet is added to the enemy bullet store.
+     */
+    public void shootEnemyBullet() {
+        long currentTime = clock.currentTimeMillis();
+        if (enemyShotTimer.hasElapsed(currentTime, SHOT_COOLDOWN_MILLIS)) {
+            int bulletStartX = enemy.getX() + Enemy.WIDTH / 2 - EnemyBullet.WIDTH / 2;
+            int bulletStartY = enemy.getY() + Enemy.HEIGHT;
+            enemyBullets.add(bulletStartX, bulletStartY, EnemyBullet.SPEED);
+            enemyShotTimer.restart(currentTime);
+        }
+    }
+
+    /**
+     * Places an enemy bullet at the given position without applying the shot cooldown.
+     * Used by simulations and stress tests that need many bullets in flight.
+     *
+     * @param x The x-coordinate of the enemy bullet.
+     * @param y The y-coordinate of the enemy bullet.
+     * @return true if the bullet was added, false if it was dropped because the bullets are at capacity.
+     */
+    public boolean spawnEnemyBullet(int x, int y) {
+        return enemyBullets.add(x, y, EnemyBullet.SPEED);
+    }
+
+    /**
+     * Updates the status of all player bullets in a single pass. Each bullet is moved, removed if it
+     * has gone off-screen, and otherwise checked for collisions before moving on to the next one.
+     * Also updates the game state if the enemy is defeated.
+     */
+    private void updateBullets() {
+        for (int i = 0; i < bullets.size(); ) {
+            int y = bullets.move(i);
+            int x = bullets.getX(i);
+            boolean remove;
+            if (Bullet.isOffScreen(y)) {
+                remove = true;
+            } else {
+                Collidable target = collisionGrid.firstHit(x, y, Bullet.WIDTH, Bullet.HEIGHT, LAYER_ENEMY | LAYER_STAR);
+                if (target != null && FlightRecorder.isInitialized()) CollisionEvent.emit("player", target == enemy ? "enemy" : "star", x, y);
+                remove = target == null ? false : target == enemy ? handleBulletEnemyCollision() : handleBulletStarCollision();
+            }
+            if (remove) bullets.remove(i); // The last bullet moves into slot i and is processed next
+            else i++;
+        }
+
+        isGameOver = enemy.getLives() <= 0 ? true : isGameOver;
+    }
+
+    /**
+     * Updates the status of all enemy bullets in a single pass. Each bullet is moved, removed if it
+     * has gone off-screen, and otherwise checked for collisions before moving on to the next one.
+     * Also updates the game state if the player is defeated.
+     */
+    private void updateEnemyBullets() {
+        for (int i = 0; i < enemyBullets.size(); ) {
+            int y = enemyBullets.move(i);
+            int x = enemyBullets.getX(i);
+            boolean remove;
+            if (EnemyBullet.isOffScreen(y)) {
+                remove = true;
+            } else {
+                Collidable target = collisionGrid.firstHit(x, y, EnemyBullet.WIDTH, EnemyBullet.HEIGHT, LAYER_PLAYER | LAYER_STAR);
+                if (target != null && FlightRecorder.isInitialized()) CollisionEvent.emit("enemy", target == player ? "player" : "star", x, y);
+                remove = target == null ? false : target == player ? handleBulletPlayerCollision() : handleEnemyBulletStarCollision();
+            }
+            if (remove) enemyBullets.remove(i); // The last bullet moves into slot i and is processed next
+            else i++;
+        }
+
+        isGameOver = player.getLives() <= 0 ? true : isGameOver;
+    }
+
+    /**
+     * Handles the collision between a player bullet and the enemy.
+     * It decreases the enemy's lives and increases the player's score.
+     *
+     * @return true to indicate the bullet should be removed.
+     */
+    private boolean handleBulletEnemyCollision() {
+        enemy.decreaseLives(1);
+        player.increaseScore(50);
+        return true;
+    }
+
+    /**
+     * Handles the collision between a player bullet and the star.
+     * It increases the player's lives when a player bullet hits the star.
+     *
+     * @return true to indicate the bullet should be removed.
+     */
+    private boolean handleBulletStarCollision() {
+        player.increaseLives(2); // Player gains a life for shooting the star
+        collectStar("player");
+        return true;
+    }
+
+    /**
+     * Handles the collision between an enemy bullet and the player.
+     * It decreases the player's lives and increases the enemy's score.
+     *
+     * @return true to indicate the bullet should be removed.
+     */
+    private boolean handleBulletPlayerCollision() {
+        player.decreaseLives(1);
+        enemy.increaseScore(50);
+        return true;
+    }
+
+    /**
+     * Handles the collision between an enemy bullet and the star.
+     * It increases the enemy's lives when an enemy bullet hits the star.
+     *
+     * @return true to indicate the bullet should be removed.
+     */
+    private boolean handleEnemyBulletStarCollision() {
+        enemy.increaseLives(2); // Enemy gains a life for shooting the star
+        collectStar("enemy");
+        return true;
+    }
+
+    /**
+     * Removes the star from the game after a bullet has hit it, and reports the collection to Java Flight Recorder.
+     *
+     * @param collector The side whose bullet hit the star, "player" or "enemy".
+     */
+    private void collectStar(String collector) {
+        if (star != null && FlightRecorder.isInitialized()) StarEvent.emit(StarEvent.COLLECTED, collector, star.getX(), star.getY());
+        removeStar();
+    }
+
+    /**
+     * Removes the star from the game after it has been hit, including from the collision grid
+     * so that later bullets in the same update cannot hit it again.
+     */
+    private void removeStar() {
+        starExists = false;
+        if (starGridId >= 0) {
+            collisionGrid.remove(starGridId);
+            starGridId = -1;
+        }
+    }
+
+    /**
+     * Registers the ships and, if present, the star into the collision grid.
+     * Called at the start of every update so the grid reflects any movement since the last one.
+     */
+    private void buildCollisionGrid() {
+        collisionGrid.clear();
+        collisionGrid.insert(enemy, LAYER_ENEMY); // Inserted before the star so a ship hit takes priority
+        collisionGrid.insert(player, LAYER_PLAYER);
+        starGridId = starExists ? collisionGrid.insert(star, LAYER_STAR) : -1;
+    }
+
+    /**
+     * Updates the position of the star and its existence status based on time intervals.
+     * The star appears on the first update and then every {@link #STAR_HIDDEN_MILLIS} after it last
+     * appeared or was moved away, and is moved away once it has been on screen for {@link #STAR_VISIBLE_MILLIS}.
+     *
+     * @param currentTime The time of the current update, in milliseconds.
+     */
+    private void updateStar(long currentTime) {
+        if (starTimer.hasElapsed(currentTime, starExists ? STAR_VISIBLE_MILLIS : STAR_HIDDEN_MILLIS)) {
+            if (starExists && FlightRecorder.isInitialized()) StarEvent.emit(StarEvent.EXPIRED, null, star.getX(), star.getY());
+            int starX = random.nextInt(SCREEN_WIDTH - Star.SIZE);
+            int starY = random.nextInt(SCREEN_HEIGHT - Star.SIZE);
+            if (star == null) star = new Star(starX, starY);
+            else star.relocate(starX, starY); // Reuse the star object instead of allocating a new one
+            starTimer.restart(currentTime);
+            starExists = !starExists;
+            if (starExists && FlightRecorder.isInitialized()) StarEvent.emit(StarEvent.SPAWNED, null, starX, starY);
+        }
+    }
+
+
+
+    /**
+     * Updates the game state including bullets, enemy bullets, and the star, after advancing the clock by one step.
+     * Checks for game over conditions. Does nothing once the model has been closed.
+     * If metrics have been set, the time taken by each phase of the update is recorded. If Java Flight Recorder is
+     * recording tick events, one is emitted for the update; otherwise no event is created. If Java Flight Recorder
+     * has not been started in this JVM, the event classes are not even loaded.
+     */
+    public void updateGame() {
+        if (!isGameOver && !closed) {
+            // Loading the first event class starts up Java Flight Recorder, so events are not touched unless it is running
+            TickEvent event = FlightRecorder.isInitialized() ? TickEvent.beginIfRecording() : null;
+            boolean timed = metrics != null || event != null;
+            long start = now(timed);
+            clock.tick();
+            buildCollisionGrid();
+            long gridBuilt = now(timed);
+            updateBullets();
+            long bulletsUpdated = now(timed);
+            updateEnemyBullets();
+            long enemyBulletsUpdated = now(timed);
+            updateStar(clock.currentTimeMillis());
+            if (timed) {
+                long end = now(true);
+                if (metrics != null) {
+                    metrics.record(Phase.COLLISION_GRID, gridBuilt - start);
+                    metrics.record(Phase.UPDATE_BULLETS, bulletsUpdated - gridBuilt);
+                    metrics.record(Phase.UPDATE_ENEMY_BULLETS, enemyBulletsUpdated - bulletsUpdated);
+                    metrics.record(Phase.STAR, end - enemyBulletsUpdated);
+                    metrics.record(Phase.TICK, end - start);
+                }
+                if (event != null) {
+                    event.finish(bullets.size(), enemyBullets.size(), gridBuilt - start, bulletsUpdated - gridBuilt,
+                            enemyBulletsUpdated - bulletsUpdated, end - enemyBulletsUpdated);
+                }
+            }
+        }
+        isGameOver = isGameOver || (player.getLives() <= 0 || enemy.getLives() <= 0) ? true : isGameOver;
+    }
+
+    /**
+     * Reads the system timer if the update is being timed.
+     *
+     * @param timed Whether the update is being timed.
+     * @return The current time in nanoseconds, or zero if the update is not timed.
+     */
+    private static long now(boolean timed) {
+        return timed ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Sets the histograms that record how long each phase of an update takes. Recording allocates nothing.
+     *
+     * @param metrics The histograms to record into, or null to stop timing updates.
+     */
+    public void setMetrics(PhaseMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Resets the game state to the initial state with the player, enemy, and empty bullet stores.
+     */
+    public void resetGame() {
+        player = new Player(initialPlayerX, initialPlayerY);
+        enemy = new Enemy(initialEnemyX, initialEnemyY);
+        bullets.clear();
+        enemyBullets.clear();
+        isGameOver = false;
+    }
+
+    /**
+     * Closes the model. The bullets and the star are removed and further calls to {@link #updateGame()}
+     * have no effect. The model runs no threads of its own, so closing it is cheap and never blocks.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        bullets.clear();
+        enemyBullets.clear();
+        removeStar();
+    }
+
+
+
+    /**
+     * Copies the current game state into a snapshot. The snapshot's bullet arrays are reused when they are
+     * large enough, so writing into the same snapshot repeatedly only allocates when the bullet count grows.
+     *
+     * @param snapshot The snapshot to write into.
+     */
+    @Override
+    public void writeSnapshot(GameSnapshot snapshot) {
+        snapshot.playerX = player.getX();
+        snapshot.playerY = player.getY();
+        snapshot.enemyX = enemy.getX();
+        snapshot.enemyY = enemy.getY();
+        snapshot.score = player.getScore();
+        snapshot.lifeCount = player.getLives();
+        snapshot.enemyScore = enemy.getScore();
+        snapshot.enemyLives = enemy.getLives();
+        snapshot.starExists = starExists;
+        snapshot.starX = starExists ? star.getX() : 0;
+        snapshot.starY = starExists ? star.getY() : 0;
+        snapshot.gameOver = isGameOver;
+        snapshot.bulletPositions = GameSnapshot.ensureCapacity(snapshot.bulletPositions, bullets.size() * 2);
+        snapshot.bulletCount = bullets.copyPositions(snapshot.bulletPositions);
+        snapshot.enemyBulletPositions = GameSnapshot.ensureCapacity(snapshot.enemyBulletPositions, enemyBullets.size() * 2);
+        snapshot.enemyBulletCount = enemyBullets.copyPositions(snapshot.enemyBulletPositions);
+    }
+
+    // Getters and setters
+    public Player getPlayer() { return player; }
+    public List<Bullet> getBullets() { return bulletView; }
+    public Enemy getEnemy() { return enemy; }
+    public List<EnemyBullet> getEnemyBullets() { return enemyBulletView; }
+    public boolean isStarExists() { return starExists; }
+    public Star getStar() { return star; }
+    public boolean isGameOver() { return isGameOver; }
+    public int getScore() { return player.getScore(); }
+    public int getLifeCount() { return player.getLives(); }
+    public int getEnemyScore() { return enemy.getScore(); }
+    public int getEnemyLives() { return enemy.getLives(); }
+
+  /* @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("GameModel {");
+        sb.append("\n Player: ").append(getPlayer());
+        sb.append("\n Enemy: ").append(getEnemy());
+        sb.append("\n Bullets: ").append(getBullets());
+        sb.append("\n Enemy Bullets: ").append(getEnemyBullets());
+        sb.append("\n Star Exists: ").append(isStarExists());
+        sb.append("\n Score: ").append(getScore());
+        sb.append("\n Player Life Count: ").append(getLifeCount());
+        sb.append("\n Enemy Score: ").append(getEnemyScore());
+        sb.append("\n Enemy Lives: ").append(getEnemyLives());
+        sb.append("\n}");
+        return sb.toString();
+    } */
+}
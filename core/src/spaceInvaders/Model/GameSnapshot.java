@@ -0,0 +1,230 @@
+package spaceInvaders.Model;
+
+/**
+ * A copy of the game state taken at the end of a game update in the Space Invaders game.
+ * It holds everything needed to draw a frame, so a renderer running on a different thread from the
+ * simulation can read a consistent state without touching the live model.
+ * Snapshots are written by {@link IGameModel#writeSnapshot(GameSnapshot)}.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class GameSnapshot {
+    /**
+     * The X coordinate of the player.
+     * The Y coordinate of the player.
+     * The X coordinate of the enemy.
+     * The Y coordinate of the enemy.
+     */
+    int playerX, playerY, enemyX, enemyY;
+
+    /**
+     * The score of the player.
+     * The number of lives of the player.
+     * The score of the enemy.
+     * The number of lives of the enemy.
+     */
+    int score, lifeCount, enemyScore, enemyLives;
+
+    /**
+     * Flag indicating whether a star exists.
+     */
+    boolean starExists;
+
+    /**
+     * The X coordinate of the star.
+     * The Y coordinate of the star.
+     */
+    int starX, starY;
+
+    /**
+     * Flag indicating whether the game is over.
+     */
+    boolean gameOver;
+
+    /**
+     * The number of bullets fired by the player.
+     * The number of bullets fired by the enemy.
+     */
+    int bulletCount, enemyBulletCount;
+
+    /**
+     * The positions of the player bullets, stored as x and y pairs.
+     * The positions of the enemy bullets, stored as x and y pairs.
+     */
+    int[] bulletPositions = new int[0], enemyBulletPositions = new int[0];
+
+    /**
+     * Constructs a new, empty snapshot.
+     */
+    public GameSnapshot() {
+        // Filled in by the game model.
+    }
+
+    /**
+     * Returns an array of at least the given length, reusing the given array if it is long enough.
+     *
+     * @param array  The current array.
+     * @param length The required length.
+     * @return An array of at least the required length.
+     */
+    static int[] ensureCapacity(int[] array, int length) {
+        return array.length >= length ? array : new int[Math.max(length, array.length * 2)];
+    }
+
+    /**
+     * Gets the X coordinate of the player.
+     *
+     * @return The X coordinate of the player.
+     */
+    public int getPlayerX() { return playerX; }
+
+    /**
+     * Gets the Y coordinate of the player.
+     *
+     * @return The Y coordinate of the player.
+     */
+    public int getPlayerY() { return playerY; }
+
+    /**
+     * Gets the X coordinate of the enemy.
+     *
+     * @return The X coordinate of the enemy.
+     */
+    public int getEnemyX() { return enemyX; }
+
+    /**
+     * Gets the Y coordinate of the enemy.
+     *
+     * @return The Y coordinate of the enemy.
+     */
+    public int getEnemyY() { return enemyY; }
+
+    /**
+     * Gets the score of the player.
+     *
+     * @return The score of the player.
+     */
+    public int getScore() { return score; }
+
+    /**
+     * Gets the number of lives of the player.
+     *
+     * @return The number of lives of the player.
+     */
+    public int getLifeCount() { return lifeCount; }
+
+    /**
+     * Gets the score of the enemy.
+     *
+     * @return The score of the enemy.
+     */
+    public int getEnemyScore() { return enemyScore; }
+
+    /**
+     * Gets the number of lives of the enemy.
+     *
+     * @return The number of lives of the enemy.
+     */
+    public int getEnemyLives() { return enemyLives; }
+
+    /**
+     * Checks if a star exists.
+     *
+     * @return true if a star exists, false otherwise.
+     */
+    public boolean isStarExists() { return starExists; }
+
+    /**
+     * Gets the X coordinate of the star. Only meaningful if a star exists.
+     *
+     * @return The X coordinate of the star.
+     */
+    public int getStarX() { return starX; }
+
+    /**
+     * Gets the Y coordinate of the star. Only meaningful if a star exists.
+     *
+     * @return The Y coordinate of the star.
+     */
+    public int getStarY() { return starY; }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return true if the game is over, false otherwise.
+     */
+    public boolean isGameOver() { return gameOver; }
+
+    /**
+     * Gets the number of bullets fired by the player.
+     *
+     * @return The number of player bullets.
+     */
+    public int getBulletCount() { return bulletCount; }
+
+    /**
+     * Gets the X coordinate of a player bullet.
+     *
+     * @param index The index of the bullet, less than {@link #getBulletCount()}.
+     * @return The X coordinate of the bullet.
+     */
+    public int getBulletX(int index) { return bulletPositions[index * 2]; }
+
+    /**
+     * Gets the Y coordinate of a player bullet.
+     *
+     * @param index The index of the bullet, less than {@link #getBulletCount()}.
+     * @return The Y coordinate of the bullet.
+     */
+    public int getBulletY(int index) { return bulletPositions[index * 2 + 1]; }
+
+    /**
+     * Copies the positions of the player bullets into an array as x and y pairs. If the array is too short,
+     * only as many bullets as fit are copied.
+     *
+     * @param dest The array to copy into.
+     * @return The number of bullets copied.
+     */
+    public int copyBulletPositions(int[] dest) {
+        int count = Math.min(bulletCount, dest.length / 2);
+        System.arraycopy(bulletPositions, 0, dest, 0, count * 2);
+        return count;
+    }
+
+    /**
+     * Gets the number of bullets fired by the enemy.
+     *
+     * @return The number of enemy bullets.
+     */
+    public int getEnemyBulletCount() { return enemyBulletCount; }
+
+    /**
+     * Gets the X coordinate of an enemy bullet.
+     *
+     * @param index The index of the bullet, less than {@link #getEnemyBulletCount()}.
+     * @return The X coordinate of the bullet.
+     */
+    public int getEnemyBulletX(int index) { return enemyBulletPositions[index * 2]; }
+
+    /**
+     * Gets the Y coordinate of an enemy bullet.
+     *
+     * @param index The index of the bullet, less than {@link #getEnemyBulletCount()}.
+     * @return The Y coordinate of the bullet.
+     */
+    public int getEnemyBulletY(int index) { return enemyBulletPositions[index * 2 + 1]; }
+
+    /**
+     * Copies the positions of the enemy bullets into an array as x and y pairs. If the array is too short,
+     * only as many bullets as fit are copied.
+     *
+     * @param dest The array to copy into.
+     * @return The number of bullets copied.
+     */
+    public int copyEnemyBulletPositions(int[] dest) {
+        int count = Math.min(enemyBulletCount, dest.length / 2);
+        System.arraycopy(enemyBulletPositions, 0, dest, 0, count * 2);
+        return count;
+    }
+}
@@ -10,7 +10,7 @@ import java.util.List;
  * @version 1.0
  * @author MD Amanullah
  */
-public interface IGameModel {
+public interface IGameModel extends AutoCloseable {
     /**
      * Moves the player in the given direction.
      *
@@ -47,6 +47,20 @@ public interface IGameModel {
      */
     void resetGame();
 
+    /**
+     * Closes the model, ending the match and releasing its game elements.
+     * A closed model no longer updates.
+     */
+    @Override
+    void close();
+
+    /**
+     * Copies the current game state into a snapshot that can be read without touching the model.
+     *
+     * @param snapshot The snapshot to write into.
+     */
+    void writeSnapshot(GameSnapshot snapshot);
+
     /**
      * Checks if the game is over.
      *
@@ -69,14 +83,14 @@ public interface IGameModel {
     Enemy getEnemy();
 
     /**
-     * Gets the list of bullets shot by the player.
+     * Gets a read-only view of the bullets shot by the player.
      *
      * @return List of bullets.
      */
     List<Bullet> getBullets();
 
     /**
-     * Gets the list of bullets shot by the enemy.
+     * Gets a read-only view of the bullets shot by the enemy.
      *
      * @return List of enemy bullets.
      */
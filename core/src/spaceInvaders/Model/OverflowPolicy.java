@@ -0,0 +1,24 @@
+package spaceInvaders.Model;
+
+/**
+ * Enum representing what a {@link ProjectileStore} does when a projectile is added while the store is full.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public enum OverflowPolicy {
+    /**
+     * The store doubles its capacity. This allocates, so a match is no longer allocation-free once it happens.
+     */
+    GROW,
+
+    /**
+     * The new projectile is discarded and the projectiles already in flight are kept.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The oldest projectile still in flight is recycled to make room for the new projectile.
+     */
+    DROP_OLDEST
+}
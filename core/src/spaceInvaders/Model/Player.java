@@ -8,7 +8,7 @@ package spaceInvaders.Model;
  * @version 1.0
  * @author MD Amanullah
  */
-public class Player {
+public class Player implements Collidable {
     /**
      * The X coordinate of the player.
      * The Y coordinate of the player.
@@ -99,6 +99,7 @@ public class Player {
      *
      * @return The X coordinate of the player.
      */
+    @Override
     public int getX() {
         return x;
     }
@@ -108,10 +109,31 @@ public class Player {
      *
      * @return The Y coordinate of the player.
      */
+    @Override
     public int getY() {
         return y;
     }
 
+    /**
+     * Gets the width of the player.
+     *
+     * @return The width of the player.
+     */
+    @Override
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    /**
+     * Gets the height of the player.
+     *
+     * @return The height of the player.
+     */
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
     /**
      * Gets the number of lives of the player.
      *
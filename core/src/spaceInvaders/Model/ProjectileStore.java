@@ -0,0 +1,296 @@
+package spaceInvaders.Model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores the projectiles of one family (player bullets or enemy bullets) in the Space Invaders game.
+ * Instead of keeping one small object per projectile, the positions and velocities are held in
+ * parallel primitive arrays so that the per-tick update walks contiguous memory and creates no garbage.
+ * Removal swaps the last projectile into the freed slot, so the order of projectiles is not preserved.
+ * The arrays are allocated up front and slots are recycled, so once a store has reached its working size
+ * adding and removing projectiles allocates nothing. What happens when the store is full is decided by
+ * its {@link OverflowPolicy}. The slots are also linked in the order their projectiles were added, so the
+ * oldest projectile is found in constant time however full the store is.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class ProjectileStore {
+    /**
+     * The initial number of slots allocated for projectiles.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Marks the end of the insertion-order links.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The X coordinates of the stored projectiles.
+     * The Y coordinates of the stored projectiles.
+     * The vertical velocities of the stored projectiles.
+     */
+    private int[] x, y, velocity;
+
+    /**
+     * The slot of the projectile added just before the one in each slot, or {@link #NONE} for the oldest.
+     */
+    private int[] older;
+
+    /**
+     * The slot of the projectile added just after the one in each slot, or {@link #NONE} for the newest.
+     */
+    private int[] newer;
+
+    /**
+     * The slot of the projectile added first among those still stored, or {@link #NONE} if the store is empty.
+     */
+    private int oldest = NONE;
+
+    /**
+     * The slot of the projectile added last, or {@link #NONE} if the store is empty.
+     */
+    private int newest = NONE;
+
+    /**
+     * The number of projectiles currently stored.
+     */
+    private int size;
+
+    /**
+     * The policy applied when a projectile is added to a full store.
+     */
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * Constructs a new, empty projectile store that grows as needed.
+     */
+    public ProjectileStore() {
+        this(INITIAL_CAPACITY, OverflowPolicy.GROW);
+    }
+
+    /**
+     * Constructs a new, empty projectile store with a fixed number of preallocated slots.
+     *
+     * @param capacity       The number of projectiles the store can hold before its overflow policy applies.
+     * @param overflowPolicy The policy applied when a projectile is added to a full store.
+     * @throws IllegalArgumentException If the capacity is not positive or the policy is null.
+     */
+    public ProjectileStore(int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0) { throw new IllegalArgumentException("Capacity must be positive"); }
+        if (overflowPolicy == null) { throw new IllegalArgumentException("Overflow policy must not be null"); }
+        this.overflowPolicy = overflowPolicy;
+        x = new int[capacity];
+        y = new int[capacity];
+        velocity = new int[capacity];
+        older = new int[capacity];
+        newer = new int[capacity];
+    }
+
+    /**
+     * Adds a projectile to the store. If the store is full, its overflow policy decides whether
+     * the store grows, the new projectile is dropped, or the oldest projectile is recycled.
+     *
+     * @param startX   The initial x-coordinate of the projectile.
+     * @param startY   The initial y-coordinate of the projectile.
+     * @param velocityY The distance the projectile moves along the y-axis on every update.
+     * @return true if the projectile was added, false if it was dropped.
+     */
+    public boolean add(int startX, int startY, int velocityY) {
+        if (size == x.length) {
+            switch (overflowPolicy) {
+                case GROW: grow(); break;
+                case DROP_NEWEST: return false;
+                case DROP_OLDEST: remove(oldest); break;
+            }
+        }
+        x[size] = startX;
+        y[size] = startY;
+        velocity[size] = velocityY;
+        older[size] = newest;
+        newer[size] = NONE;
+        if (newest == NONE) {
+            oldest = size;
+        } else {
+            newer[newest] = size;
+        }
+        newest = size;
+        size++;
+        return true;
+    }
+
+    /**
+     * Doubles the number of slots in the store.
+     */
+    private void grow() {
+        int newCapacity = x.length * 2;
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        velocity = Arrays.copyOf(velocity, newCapacity);
+        older = Arrays.copyOf(older, newCapacity);
+        newer = Arrays.copyOf(newer, newCapacity);
+    }
+
+    /**
+     * Moves the projectile at the given index by its velocity.
+     *
+     * @param index The index of the projectile to move.
+     * @return The new y-coordinate of the projectile.
+     */
+    public int move(int index) {
+        return y[index] += velocity[index];
+    }
+
+    /**
+     * Removes the projectile at the given index by moving the last projectile into its slot.
+     *
+     * @param index The index of the projectile to remove.
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) { throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size); }
+        size--;
+        unlink(index);
+        if (index == size) {
+            return;
+        }
+        x[index] = x[size];
+        y[index] = y[size];
+        velocity[index] = velocity[size];
+        older[index] = older[size];
+        newer[index] = newer[size];
+        // Point the neighbours of the moved projectile at its new slot
+        if (older[index] == NONE) {
+            oldest = index;
+        } else {
+            newer[older[index]] = index;
+        }
+        if (newer[index] == NONE) {
+            newest = index;
+        } else {
+            older[newer[index]] = index;
+        }
+    }
+
+    /**
+     * Removes a slot from the insertion-order links, joining the projectiles added before and after it.
+     *
+     * @param slot The slot to unlink.
+     */
+    private void unlink(int slot) {
+        if (older[slot] == NONE) {
+            oldest = newer[slot];
+        } else {
+            newer[older[slot]] = newer[slot];
+        }
+        if (newer[slot] == NONE) {
+            newest = older[slot];
+        } else {
+            older[newer[slot]] = older[slot];
+        }
+    }
+
+    /**
+     * Removes all projectiles from the store.
+     */
+    public void clear() {
+        size = 0;
+        oldest = NONE;
+        newest = NONE;
+    }
+
+    /**
+     * Gets the number of projectiles currently stored.
+     *
+     * @return The number of projectiles.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of projectiles the store can hold before its overflow policy applies.
+     *
+     * @return The capacity of the store.
+     */
+    public int capacity() {
+        return x.length;
+    }
+
+    /**
+     * Gets the x-coordinate of the projectile at the given index.
+     *
+     * @param index The index of the projectile.
+     * @return The x-coordinate of the projectile.
+     */
+    public int getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Gets the y-coordinate of the projectile at the given index.
+     *
+     * @param index The index of the projectile.
+     * @return The y-coordinate of the projectile.
+     */
+    public int getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Copies the positions of all stored projectiles into an array as x and y pairs.
+     *
+     * @param dest The array to copy into, at least twice as long as {@link #size()}.
+     * @return The number of projectiles copied.
+     * @throws IndexOutOfBoundsException If the array is too short.
+     */
+    public int copyPositions(int[] dest) {
+        if (dest.length < size * 2) { throw new IndexOutOfBoundsException("Length: " + dest.length + ", Size: " + size); }
+        for (int i = 0; i < size; i++) {
+            dest[i * 2] = x[i];
+            dest[i * 2 + 1] = y[i];
+        }
+        return size;
+    }
+
+    /**
+     * Returns a read-only list view of the stored projectiles. Every access to an element creates
+     * a new projectile object holding a copy of the stored position.
+     *
+     * @param factory The factory used to create the projectile objects.
+     * @param <T>     The type of projectile object exposed by the view.
+     * @return A read-only list view backed by this store.
+     */
+    public <T> List<T> asList(Factory<T> factory) {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                if (index < 0 || index >= size) { throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size); }
+                return factory.create(x[index], y[index]);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Creates projectile objects from stored positions for the read-only list view.
+     *
+     * @param <T> The type of projectile object created.
+     */
+    public interface Factory<T> {
+        /**
+         * Creates a projectile object at the given position.
+         *
+         * @param x The x-coordinate of the projectile.
+         * @param y The y-coordinate of the projectile.
+         * @return The created projectile object.
+         */
+        T create(int x, int y);
+    }
+}
@@ -0,0 +1,23 @@
+package spaceInvaders.Model;
+
+/**
+ * Interface for the source of time used by the Space Invaders game model.
+ * Shot cooldowns and star timing read the time from the clock rather than from the system clock,
+ * so a match runs at whatever speed the model is updated and gives the same result on every machine.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public interface SimulationClock {
+    /**
+     * Gets the current simulation time.
+     *
+     * @return The simulation time, in milliseconds.
+     */
+    long currentTimeMillis();
+
+    /**
+     * Advances the clock by one simulation step. Called by the game model at the start of every update.
+     */
+    void tick();
+}
@@ -0,0 +1,83 @@
+package spaceInvaders.Model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A triple buffer of {@link GameSnapshot}s passing frames from the simulation to the renderer in the Space Invaders game.
+ * One snapshot is owned by the writer, one by the reader, and the third holds the most recently published frame.
+ * Publishing and acquiring only swap snapshots between these roles, so the writer never waits for the reader,
+ * the reader always sees a complete frame, and no snapshot is allocated after construction.
+ *
+ * The buffer supports one writer thread and one reader thread. A snapshot returned by {@link #acquire()} stays
+ * unchanged until the reader calls {@link #acquire()} again.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class SnapshotBuffer {
+    /**
+     * Bit set in the shared slot when it holds a frame the reader has not acquired yet.
+     */
+    private static final int FRESH = 4;
+
+    /**
+     * Mask extracting the snapshot index from the shared slot.
+     */
+    private static final int INDEX_MASK = 3;
+
+    /**
+     * The three snapshots.
+     */
+    private final GameSnapshot[] snapshots = {new GameSnapshot(), new GameSnapshot(), new GameSnapshot()};
+
+    /**
+     * The index of the snapshot holding the latest published frame, combined with the {@link #FRESH} bit.
+     */
+    private final AtomicInteger shared = new AtomicInteger(1);
+
+    /**
+     * The index of the snapshot owned by the writer.
+     */
+    private int back = 0;
+
+    /**
+     * The index of the snapshot owned by the reader.
+     */
+    private int front = 2;
+
+    /**
+     * Constructs a new buffer holding three empty snapshots.
+     */
+    public SnapshotBuffer() {
+        // Snapshots are created up front.
+    }
+
+    /**
+     * Gets the snapshot the writer should fill in next. Called by the writer only.
+     *
+     * @return The writer's snapshot.
+     */
+    public GameSnapshot beginWrite() {
+        return snapshots[back];
+    }
+
+    /**
+     * Publishes the snapshot returned by {@link #beginWrite()} as the latest frame. Called by the writer only.
+     */
+    public void publish() {
+        back = shared.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Gets the latest published frame. Called by the reader only. If nothing has been published since the
+     * previous call, the same snapshot is returned again.
+     *
+     * @return The latest published snapshot.
+     */
+    public GameSnapshot acquire() {
+        if ((shared.get() & FRESH) != 0) {
+            front = shared.getAndSet(front) & INDEX_MASK;
+        }
+        return snapshots[front];
+    }
+}
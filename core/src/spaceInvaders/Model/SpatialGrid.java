@@ -0,0 +1,204 @@
+package spaceInvaders.Model;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid used as the collision broadphase in the Space Invaders game.
+ * The arena is divided into square cells. Collidable entities are registered into every cell their
+ * bounding box overlaps, so a query only has to test the entities sharing a cell with the queried box
+ * instead of every entity in the game. Entities that reach outside the arena are filed under the edge cells.
+ *
+ * The grid is rebuilt every tick with {@link #clear()} and {@link #insert(Collidable, int)}. Its storage
+ * is reused between ticks, so rebuilding and querying allocate nothing once the grid has reached its working size.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class SpatialGrid {
+    /**
+     * The initial number of entities and cell entries the grid can hold before growing.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The width and height of each cell.
+     */
+    private final int cellSize;
+
+    /**
+     * The number of cell columns.
+     * The number of cell rows.
+     */
+    private final int columns, rows;
+
+    /**
+     * The first entry of each cell, or -1 if the cell is empty.
+     */
+    private final int[] cellHead;
+
+    /**
+     * The entity referenced by each entry.
+     * The next entry in the same cell, or -1 if it is the last one.
+     */
+    private int[] entryEntity, entryNext;
+
+    /**
+     * The number of cell entries in use.
+     */
+    private int entryCount;
+
+    /**
+     * The registered entities, indexed by their id.
+     */
+    private Collidable[] entities;
+
+    /**
+     * The collision layer of each registered entity.
+     */
+    private int[] layers;
+
+    /**
+     * The number of registered entities.
+     */
+    private int entityCount;
+
+    /**
+     * Constructs a new, empty grid covering an arena of the given size.
+     *
+     * @param width    The width of the arena.
+     * @param height   The height of the arena.
+     * @param cellSize The width and height of each cell.
+     * @throws IllegalArgumentException If any dimension is not positive.
+     */
+    public SpatialGrid(int width, int height, int cellSize) {
+        if (width <= 0 || height <= 0 || cellSize <= 0) { throw new IllegalArgumentException("Grid dimensions must be positive"); }
+        this.cellSize = cellSize;
+        this.columns = (width + cellSize - 1) / cellSize;
+        this.rows = (height + cellSize - 1) / cellSize;
+        cellHead = new int[columns * rows];
+        Arrays.fill(cellHead, -1);
+        entryEntity = new int[INITIAL_CAPACITY];
+        entryNext = new int[INITIAL_CAPACITY];
+        entities = new Collidable[INITIAL_CAPACITY];
+        layers = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Removes all entities from the grid.
+     */
+    public void clear() {
+        Arrays.fill(cellHead, -1);
+        Arrays.fill(entities, 0, entityCount, null);
+        entryCount = 0;
+        entityCount = 0;
+    }
+
+    /**
+     * Registers an entity into every cell its bounding box overlaps. Entities are given ids in the
+     * order they are inserted, and {@link #firstHit} prefers entities with lower ids.
+     *
+     * @param entity The entity to register.
+     * @param layer  The collision layer of the entity, a single bit used to filter queries.
+     * @return The id of the entity in the grid.
+     */
+    public int insert(Collidable entity, int layer) {
+        if (entityCount == entities.length) {
+            entities = Arrays.copyOf(entities, entityCount * 2);
+            layers = Arrays.copyOf(layers, entityCount * 2);
+        }
+        int id = entityCount++;
+        entities[id] = entity;
+        layers[id] = layer;
+
+        int firstColumn = column(entity.getX()), lastColumn = column(entity.getX() + entity.getWidth() - 1);
+        int firstRow = row(entity.getY()), lastRow = row(entity.getY() + entity.getHeight() - 1);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                addEntry(r * columns + c, id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Removes an entity from all future queries until the grid is next cleared.
+     *
+     * @param id The id returned when the entity was inserted.
+     */
+    public void remove(int id) {
+        if (id < 0 || id >= entityCount) { throw new IndexOutOfBoundsException("Id: " + id + ", Count: " + entityCount); }
+        layers[id] = 0;
+    }
+
+    /**
+     * Finds the registered entity with the lowest id whose bounding box overlaps the given box.
+     *
+     * @param x         The X coordinate of the box.
+     * @param y         The Y coordinate of the box.
+     * @param width     The width of the box.
+     * @param height    The height of the box.
+     * @param layerMask The collision layers to consider.
+     * @return The entity hit, or null if the box does not overlap any entity on the given layers.
+     */
+    public Collidable firstHit(int x, int y, int width, int height, int layerMask) {
+        int best = Integer.MAX_VALUE;
+        int firstColumn = column(x), lastColumn = column(x + width - 1);
+        int firstRow = row(y), lastRow = row(y + height - 1);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                for (int e = cellHead[r * columns + c]; e != -1; e = entryNext[e]) {
+                    int id = entryEntity[e];
+                    if (id < best && (layers[id] & layerMask) != 0 && entities[id].isHit(x, y, width, height)) {
+                        best = id;
+                    }
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? null : entities[best];
+    }
+
+    /**
+     * Gets the number of entities registered since the grid was last cleared.
+     *
+     * @return The number of registered entities.
+     */
+    public int size() {
+        return entityCount;
+    }
+
+    /**
+     * Adds an entry for an entity to the front of a cell's list.
+     *
+     * @param cell The index of the cell.
+     * @param id   The id of the entity.
+     */
+    private void addEntry(int cell, int id) {
+        if (entryCount == entryEntity.length) {
+            entryEntity = Arrays.copyOf(entryEntity, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryEntity[entryCount] = id;
+        entryNext[entryCount] = cellHead[cell];
+        cellHead[cell] = entryCount++;
+    }
+
+    /**
+     * Gets the column containing an X coordinate, clamped to the grid.
+     *
+     * @param x The X coordinate.
+     * @return The column index.
+     */
+    private int column(int x) {
+        return Math.max(0, Math.min(columns - 1, Math.floorDiv(x, cellSize)));
+    }
+
+    /**
+     * Gets the row containing a Y coordinate, clamped to the grid.
+     *
+     * @param y The Y coordinate.
+     * @return The row index.
+     */
+    private int row(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, cellSize)));
+    }
+}
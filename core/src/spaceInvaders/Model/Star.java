@@ -7,7 +7,7 @@ package spaceInvaders.Model;
  * @version 1.0
  * @author MD Amanullah
  */
-public class Star {
+public class Star implements Collidable {
     /**
      * The X coordinate of the star.
      * The Y coordinate of the star.
@@ -30,17 +30,15 @@ public class Star {
     }
 
     /**
-     * Checks if the star is hit by a bullet.
-     * This method is used for collision detection between the star and a bullet.
+     * Moves the star to a new position. The game model reuses a single star object for every
+     * appearance instead of creating a new one each time.
      *
-     * @param bulletX      The X coordinate of the bullet.
-     * @param bulletY      The Y coordinate of the bullet.
-     * @param bulletWidth  The width of the bullet.
-     * @param bulletHeight The height of the bullet.
-     * @return true if the bullet intersects with the star, false otherwise.
+     * @param newX The new X coordinate of the star.
+     * @param newY The new Y coordinate of the star.
      */
-    public boolean isHit(int bulletX, int bulletY, int bulletWidth, int bulletHeight) {
-        return (bulletX < x + SIZE && bulletX + bulletWidth > x && bulletY < y + SIZE && bulletY + bulletHeight > y);
+    void relocate(int newX, int newY) {
+        this.x = newX;
+        this.y = newY;
     }
 
     /**
@@ -48,6 +46,7 @@ public class Star {
      *
      * @return The X coordinate of the star.
      */
+    @Override
     public int getX() {
         return x;
     }
@@ -57,10 +56,31 @@ public class Star {
      *
      * @return The Y coordinate of the star.
      */
+    @Override
     public int getY() {
         return y;
     }
 
+    /**
+     * Gets the width of the star.
+     *
+     * @return The width of the star.
+     */
+    @Override
+    public int getWidth() {
+        return SIZE;
+    }
+
+    /**
+     * Gets the height of the star.
+     *
+     * @return The height of the star.
+     */
+    @Override
+    public int getHeight() {
+        return SIZE;
+    }
+
  /*   @Override
     public String toString() {
         return "Star {" +  "x=" + x + ", y=" + y + ", SIZE=" + SIZE + '}';
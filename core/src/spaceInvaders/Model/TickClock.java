@@ -0,0 +1,80 @@
+package spaceInvaders.Model;
+
+/**
+ * A simulation clock that advances by a fixed step on every game update in the Space Invaders game.
+ * Time only passes when the model is updated, so a match can be simulated as fast as the CPU allows,
+ * and timers stand still whenever updates stop, for example while the game is paused.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class TickClock implements SimulationClock {
+    /**
+     * The default number of ticks per simulated second, matching the rate at which the game is drawn.
+     */
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+
+    /**
+     * The number of ticks that make up one simulated second.
+     */
+    private final int ticksPerSecond;
+
+    /**
+     * The number of ticks since the clock was created.
+     */
+    private long ticks;
+
+    /**
+     * Constructs a new clock running at {@link #DEFAULT_TICKS_PER_SECOND}.
+     */
+    public TickClock() {
+        this(DEFAULT_TICKS_PER_SECOND);
+    }
+
+    /**
+     * Constructs a new clock running at the given tick rate.
+     *
+     * @param ticksPerSecond The number of ticks that make up one simulated second.
+     * @throws IllegalArgumentException If the tick rate is not positive.
+     */
+    public TickClock(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) { throw new IllegalArgumentException("Ticks per second must be positive"); }
+        this.ticksPerSecond = ticksPerSecond;
+    }
+
+    /**
+     * Gets the simulated time elapsed since the clock was created.
+     *
+     * @return The simulation time, in milliseconds.
+     */
+    @Override
+    public long currentTimeMillis() {
+        return ticks * 1000 / ticksPerSecond;
+    }
+
+    /**
+     * Advances the clock by one tick.
+     */
+    @Override
+    public void tick() {
+        ticks++;
+    }
+
+    /**
+     * Gets the number of ticks since the clock was created.
+     *
+     * @return The number of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the number of ticks that make up one simulated second.
+     *
+     * @return The tick rate.
+     */
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+}
@@ -0,0 +1,57 @@
+package spaceInvaders.Model;
+
+/**
+ * A timer that measures time elapsed in the Space Invaders game simulation.
+ * The timer has no thread of its own; it is polled by the game update with the current time,
+ * so it advances exactly as fast as the simulation does. A timer that has never been started
+ * counts as having elapsed, so a timed event fires on the first update.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class TickTimer {
+    /**
+     * The time at which the timer was last restarted, in milliseconds.
+     */
+    private long startTime;
+
+    /**
+     * Flag indicating whether the timer has been started.
+     */
+    private boolean started;
+
+    /**
+     * Constructs a new timer that has not been started.
+     */
+    public TickTimer() {
+        // Not started until the first restart.
+    }
+
+    /**
+     * Checks if at least the given duration has passed since the timer was last restarted.
+     *
+     * @param now      The current time, in milliseconds.
+     * @param duration The duration to check for, in milliseconds.
+     * @return true if the timer has never been started or the duration has passed, false otherwise.
+     */
+    public boolean hasElapsed(long now, long duration) {
+        return !started || now - startTime >= duration;
+    }
+
+    /**
+     * Restarts the timer from the given time.
+     *
+     * @param now The current time, in milliseconds.
+     */
+    public void restart(long now) {
+        startTime = now;
+        started = true;
+    }
+
+    /**
+     * Stops the timer, so that it counts as elapsed until it is restarted.
+     */
+    public void reset() {
+        started = false;
+    }
+}
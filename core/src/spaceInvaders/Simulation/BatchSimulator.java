@@ -0,0 +1,230 @@
+package spaceInvaders.Simulation;
+
+import spaceInvaders.Controller.GameController;
+import spaceInvaders.Controller.GameState;
+import spaceInvaders.Model.GameModel;
+import spaceInvaders.Model.GameSnapshot;
+import spaceInvaders.Model.TickClock;
+import spaceInvaders.View.HeadlessView;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * The BatchSimulator class plays many independent Space Invaders matches in parallel and aggregates their outcomes.
+ * Matches are split between fork/join tasks, so idle cores steal work from busy ones. Every match gets its own
+ * {@link GameModel}, clock and random number generators, seeded from the batch seed and the match number, so a batch
+ * gives the same results however many threads run it. Each task records into its own {@link MatchStats}, and the
+ * accumulators are merged as the tasks are joined.
+ * Example usage:
+ * {@code
+ *     MatchStats stats = new BatchSimulator(42, 100_000).run(100_000);
+ * }
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class BatchSimulator {
+    /**
+     * Default number of matches to simulate when run from the command line.
+     */
+    private static final int DEFAULT_MATCHES = 100_000;
+
+    /**
+     * Default maximum length of a match, in ticks. Ten minutes of play at 60 ticks per second.
+     */
+    public static final long DEFAULT_MAX_MATCH_TICKS = 36_000;
+
+    /**
+     * Number of matches a task plays itself instead of splitting further.
+     */
+    private static final int MATCHES_PER_TASK = 64;
+
+    /**
+     * The seed the seeds of all matches are derived from.
+     */
+    private final long seed;
+
+    /**
+     * Maximum length of a match, in ticks. Matches still going after this many ticks are recorded as unfinished.
+     */
+    private final long maxMatchTicks;
+
+    /**
+     * Creates the bot playing the player from a match seed.
+     * Creates the bot playing the enemy from a match seed.
+     */
+    private final LongFunction<Bot> playerBots, enemyBots;
+
+    /**
+     * Constructs a simulator in which random bots play both sides.
+     *
+     * @param seed          The seed the seeds of all matches are derived from.
+     * @param maxMatchTicks Maximum length of a match, in ticks.
+     */
+    public BatchSimulator(long seed, long maxMatchTicks) {
+        this(seed, maxMatchTicks, matchSeed -> RandomBot.player(new Random(matchSeed + 1)), matchSeed -> RandomBot.enemy(new Random(matchSeed + 2)));
+    }
+
+    /**
+     * Constructs a simulator with the given bots.
+     *
+     * @param seed          The seed the seeds of all matches are derived from.
+     * @param maxMatchTicks Maximum length of a match, in ticks.
+     * @param playerBots    Creates a new bot playing the player from a match seed.
+     * @param enemyBots     Creates a new bot playing the enemy from a match seed.
+     * @throws IllegalArgumentException If the maximum match length is not positive.
+     */
+    public BatchSimulator(long seed, long maxMatchTicks, LongFunction<Bot> playerBots, LongFunction<Bot> enemyBots) {
+        if (maxMatchTicks <= 0) { throw new IllegalArgumentException("Maximum match length must be positive"); }
+        this.seed = seed;
+        this.maxMatchTicks = maxMatchTicks;
+        this.playerBots = playerBots;
+        this.enemyBots = enemyBots;
+    }
+
+    /**
+     * Plays the given number of matches on the common fork/join pool.
+     *
+     * @param matches The number of matches to play.
+     * @return The aggregated outcomes.
+     */
+    public MatchStats run(int matches) {
+        return run(matches, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the given number of matches on the given fork/join pool.
+     *
+     * @param matches The number of matches to play.
+     * @param pool    The pool to run the matches on.
+     * @return The aggregated outcomes.
+     * @throws IllegalArgumentException If the number of matches is negative.
+     */
+    public MatchStats run(int matches, ForkJoinPool pool) {
+        if (matches < 0) { throw new IllegalArgumentException("Matches must not be negative"); }
+        return pool.invoke(new MatchTask(0, matches));
+    }
+
+    /**
+     * Plays one match to the end, or until it reaches the maximum length, and records its outcome.
+     *
+     * @param match The number of the match within the batch.
+     * @param stats The accumulator to record the outcome in.
+     */
+    private void playMatch(int match, MatchStats stats) {
+        long matchSeed = matchSeed(seed, match);
+        Bot playerBot = playerBots.apply(matchSeed);
+        Bot enemyBot = enemyBots.apply(matchSeed);
+        GameController controller = new GameController(new GameModel(new TickClock(), new Random(matchSeed)), new HeadlessView());
+        controller.setGameState(GameState.RUNNING);
+
+        long tick = 0;
+        while (tick < maxMatchTicks && !controller.isGameOver()) {
+            playerBot.act(tick, controller);
+            enemyBot.act(tick, controller);
+            controller.updateGame();
+            tick++;
+        }
+
+        GameSnapshot result = controller.getSnapshot();
+        boolean over = result.isGameOver();
+        stats.record(over && result.getEnemyLives() <= 0, over && result.getEnemyLives() > 0, tick, result.getScore(), result.getEnemyScore());
+        controller.shutdown();
+    }
+
+    /**
+     * Derives the seed of a match from the batch seed, spreading consecutive match numbers across the whole range.
+     *
+     * @param seed  The batch seed.
+     * @param match The number of the match.
+     * @return The seed of the match.
+     */
+    static long matchSeed(long seed, int match) {
+        long z = seed + (match + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * A fork/join task playing a range of matches. Large ranges are split in half until they are small enough
+     * to play directly.
+     */
+    private class MatchTask extends RecursiveTask<MatchStats> {
+        /**
+         * Version of the serialized form, which fork/join tasks inherit but never use.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first match of the range.
+         * The match after the last match of the range.
+         */
+        private final int from, to;
+
+        /**
+         * Constructs a task playing a range of matches.
+         *
+         * @param from The first match of the range.
+         * @param to   The match after the last match of the range.
+         */
+        MatchTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Plays the range of matches, splitting it if it is large.
+         *
+         * @return The outcomes of the matches in the range.
+         */
+        @Override
+        protected MatchStats compute() {
+            if (to - from <= MATCHES_PER_TASK) {
+                MatchStats stats = new MatchStats();
+                for (int match = from; match < to; match++) {
+                    playMatch(match, stats);
+                }
+                return stats;
+            }
+            int middle = (from + to) >>> 1;
+            MatchTask left = new MatchTask(from, middle);
+            left.fork();
+            MatchStats right = new MatchTask(middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Plays a batch of matches from the command line and prints the aggregated outcomes.
+     * Options:
+     * {@code --matches <n>} the number of matches to play,
+     * {@code --seed <n>} the batch seed,
+     * {@code --max-ticks <n>} the maximum length of a match.
+     *
+     * @param args Command line arguments.
+     */
+    public static void main(String[] args) {
+        int matches = DEFAULT_MATCHES;
+        long seed = 42;
+        long maxTicks = DEFAULT_MAX_MATCH_TICKS;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--matches": matches = Integer.parseInt(args[i + 1]); break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                case "--max-ticks": maxTicks = Long.parseLong(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        long start = System.nanoTime();
+        MatchStats stats = new BatchSimulator(seed, maxTicks).run(matches);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(stats);
+        System.out.printf("Elapsed: %.3f s on %d threads (%.0f matches per second)%n",
+                seconds, ForkJoinPool.getCommonPoolParallelism(), matches / seconds);
+    }
+}
@@ -0,0 +1,25 @@
+package spaceInvaders.Simulation;
+
+import spaceInvaders.Controller.IGameController;
+
+/**
+ * Interface for automated players in the Space Invaders game. A bot is asked to act once per
+ * simulation tick and plays by pressing keys through the game controller, exactly as a person would.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public interface Bot {
+    /**
+     * A bot that never presses any key.
+     */
+    Bot IDLE = (tick, controller) -> { };
+
+    /**
+     * Lets the bot press keys for the given tick.
+     *
+     * @param tick       The number of the tick about to be simulated, counted from zero.
+     * @param controller The game controller to send key presses to.
+     */
+    void act(long tick, IGameController controller);
+}
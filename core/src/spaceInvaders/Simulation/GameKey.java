@@ -0,0 +1,69 @@
+package spaceInvaders.Simulation;
+
+/**
+ * Enum representing the keys used to play the Space Invaders game, with the key and key code
+ * Processing reports for each of them.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public enum GameKey {
+    /**
+     * Player controls.
+     */
+    LEFT(GameKey.CODED, 37), UP(GameKey.CODED, 38), RIGHT(GameKey.CODED, 39), DOWN(GameKey.CODED, 40), SPACE(' ', 32),
+
+    /**
+     * Enemy controls.
+     */
+    W('w', 87), A('a', 65), S('s', 83), D('d', 68), F('f', 70),
+
+    /**
+     * Pause key.
+     */
+    P('p', 80);
+
+    /**
+     * The key Processing reports for keys without a character, such as the arrow keys.
+     */
+    private static final char CODED = 0xFFFF;
+
+    /**
+     * The character of the key.
+     */
+    private final char key;
+
+    /**
+     * The key code of the key.
+     */
+    private final int keyCode;
+
+    /**
+     * Constructor for a game key.
+     *
+     * @param key     The character of the key.
+     * @param keyCode The key code of the key.
+     */
+    GameKey(char key, int keyCode) {
+        this.key = key;
+        this.keyCode = keyCode;
+    }
+
+    /**
+     * Gets the character of the key.
+     *
+     * @return The character of the key.
+     */
+    public char getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the key code of the key.
+     *
+     * @return The key code of the key.
+     */
+    public int getKeyCode() {
+        return keyCode;
+    }
+}
@@ -0,0 +1,172 @@
+package spaceInvaders.Simulation;
+
+import spaceInvaders.Controller.GameController;
+import spaceInvaders.Controller.GameState;
+import spaceInvaders.Metrics.PhaseMetrics;
+import spaceInvaders.Metrics.StartupTimeline;
+import spaceInvaders.Model.GameModel;
+import spaceInvaders.Model.GameSnapshot;
+import spaceInvaders.Model.TickClock;
+import spaceInvaders.View.HeadlessView;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * The HeadlessRunner class plays the Space Invaders game without Processing or a display.
+ * It drives a {@link GameModel} through a {@link GameController} for a fixed number of ticks as fast as the
+ * CPU allows, with bots supplying the player and enemy input. When a match ends the next one starts straight
+ * away. Runs with the same seed and bots are identical, so they can be used for balance testing and regression runs.
+ * The time taken by each phase of every update is recorded in latency histograms, available from {@link #getMetrics()}.
+ * Example usage:
+ * {@code
+ *     try (HeadlessRunner runner = new HeadlessRunner(42, RandomBot.player(new Random(1)), RandomBot.enemy(new Random(2)))) {
+ *         System.out.println(runner.run(1_000_000));
+ *     }
+ * }
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class HeadlessRunner implements AutoCloseable {
+    /**
+     * Default number of ticks to simulate when run from the command line.
+     */
+    private static final long DEFAULT_TICKS = 1_000_000;
+
+    /**
+     * Default seed when run from the command line.
+     */
+    private static final long DEFAULT_SEED = 42;
+
+    /**
+     * The controller driving the game.
+     */
+    private final GameController controller;
+
+    /**
+     * The bot playing the player.
+     * The bot playing the enemy.
+     */
+    private final Bot playerBot, enemyBot;
+
+    /**
+     * Histograms recording how long each phase of an update takes.
+     */
+    private final PhaseMetrics metrics = new PhaseMetrics();
+
+    /**
+     * Constructs a runner for a new game.
+     *
+     * @param seed      Seed for the game's random number generator.
+     * @param playerBot The bot playing the player.
+     * @param enemyBot  The bot playing the enemy.
+     */
+    public HeadlessRunner(long seed, Bot playerBot, Bot enemyBot) {
+        GameModel model = new GameModel(new TickClock(), new Random(seed));
+        StartupTimeline.process().mark(StartupTimeline.Mark.MODEL_CONSTRUCTED);
+        model.setMetrics(metrics);
+        this.controller = new GameController(model, new HeadlessView());
+        this.playerBot = playerBot;
+        this.enemyBot = enemyBot;
+    }
+
+    /**
+     * Simulates the given number of ticks, starting a new match whenever one ends.
+     *
+     * @param ticks The number of ticks to simulate.
+     * @return A report of the run.
+     * @throws IllegalArgumentException If the number of ticks is negative.
+     */
+    public RunReport run(long ticks) {
+        if (ticks < 0) { throw new IllegalArgumentException("Ticks must not be negative"); }
+        long playerWins = 0, enemyWins = 0;
+        controller.setGameState(GameState.RUNNING);
+
+        long start = System.nanoTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            if (controller.isGameOver()) {
+                GameSnapshot result = controller.getSnapshot();
+                if (result.getEnemyLives() <= 0) {
+                    playerWins++;
+                } else {
+                    enemyWins++;
+                }
+                controller.handleKeyPress(GameKey.SPACE.getKey(), GameKey.SPACE.getKeyCode()); // Start the next match
+            }
+            playerBot.act(tick, controller);
+            enemyBot.act(tick, controller);
+            controller.updateGame();
+            if (tick == 0) {
+                StartupTimeline.process().mark(StartupTimeline.Mark.FIRST_TICK);
+            }
+        }
+        return new RunReport(ticks, playerWins, enemyWins, System.nanoTime() - start);
+    }
+
+    /**
+     * Gets the histograms recording how long each phase of an update has taken so far.
+     *
+     * @return The update latency histograms.
+     */
+    public PhaseMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Closes the game.
+     */
+    @Override
+    public void close() {
+        controller.shutdown();
+    }
+
+    /**
+     * Runs the game headless from the command line and prints a report.
+     * Options:
+     * {@code --ticks <n>} the number of ticks to simulate,
+     * {@code --seed <n>} the seed for the game and the random bots,
+     * {@code --script <file>} a script of key presses to replay instead of using random bots,
+     * {@code --metrics <file>} write the latency report of the update phases to a file, or to the console if the file is {@code -}.
+     * If the {@value StartupTimeline#PROBE_PROPERTY} system property is {@code true}, the startup timeline is printed
+     * after the report.
+     *
+     * @param args Command line arguments.
+     * @throws IOException If the script cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        StartupTimeline.process().mark(StartupTimeline.Mark.MAIN);
+        long ticks = DEFAULT_TICKS;
+        long seed = DEFAULT_SEED;
+        Path script = null;
+        String metricsFile = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--ticks": ticks = Long.parseLong(args[i + 1]); break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                case "--script": script = Path.of(args[i + 1]); break;
+                case "--metrics": metricsFile = args[i + 1]; break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        Bot playerBot = script != null ? ScriptedBot.parse(Files.readAllLines(script)) : RandomBot.player(new Random(seed + 1));
+        Bot enemyBot = script != null ? Bot.IDLE : RandomBot.enemy(new Random(seed + 2));
+        try (HeadlessRunner runner = new HeadlessRunner(seed, playerBot, enemyBot)) {
+            System.out.println(runner.run(ticks));
+            if ("-".equals(metricsFile)) {
+                runner.getMetrics().writeReport(System.out);
+            } else if (metricsFile != null) {
+                try (PrintStream out = new PrintStream(metricsFile)) {
+                    runner.getMetrics().writeReport(out);
+                }
+            }
+        }
+        if (StartupTimeline.isProbe()) {
+            StartupTimeline.process().writeReport(System.out);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package spaceInvaders.Simulation;
+
+/**
+ * Accumulated outcomes of simulated Space Invaders matches: who won, the final scores and how long the matches lasted.
+ * An accumulator is owned by a single task while it records matches, and accumulators from different tasks are
+ * combined with {@link #merge(MatchStats)} once the tasks have finished, so no locking is needed.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class MatchStats {
+    /**
+     * The number of matches won by the player.
+     * The number of matches won by the enemy.
+     * The number of matches stopped before either side won.
+     */
+    private long playerWins, enemyWins, unfinished;
+
+    /**
+     * The total length of all matches, in ticks.
+     * The length of the shortest match, in ticks.
+     * The length of the longest match, in ticks.
+     */
+    private long totalTicks, shortestMatch = Long.MAX_VALUE, longestMatch;
+
+    /**
+     * The total final score of the player over all matches.
+     * The total final score of the enemy over all matches.
+     */
+    private long totalPlayerScore, totalEnemyScore;
+
+    /**
+     * Constructs an empty accumulator.
+     */
+    public MatchStats() {
+        // Nothing recorded yet.
+    }
+
+    /**
+     * Records the outcome of one match.
+     *
+     * @param playerWon   true if the player won.
+     * @param enemyWon    true if the enemy won.
+     * @param ticks       The length of the match, in ticks.
+     * @param playerScore The final score of the player.
+     * @param enemyScore  The final score of the enemy.
+     */
+    public void record(boolean playerWon, boolean enemyWon, long ticks, int playerScore, int enemyScore) {
+        if (playerWon) {
+            playerWins++;
+        } else if (enemyWon) {
+            enemyWins++;
+        } else {
+            unfinished++;
+        }
+        totalTicks += ticks;
+        shortestMatch = Math.min(shortestMatch, ticks);
+        longestMatch = Math.max(longestMatch, ticks);
+        totalPlayerScore += playerScore;
+        totalEnemyScore += enemyScore;
+    }
+
+    /**
+     * Adds the matches recorded by another accumulator to this one.
+     *
+     * @param other The accumulator to add.
+     * @return This accumulator.
+     */
+    public MatchStats merge(MatchStats other) {
+        playerWins += other.playerWins;
+        enemyWins += other.enemyWins;
+        unfinished += other.unfinished;
+        totalTicks += other.totalTicks;
+        shortestMatch = Math.min(shortestMatch, other.shortestMatch);
+        longestMatch = Math.max(longestMatch, other.longestMatch);
+        totalPlayerScore += other.totalPlayerScore;
+        totalEnemyScore += other.totalEnemyScore;
+        return this;
+    }
+
+    /**
+     * Gets the number of matches recorded.
+     *
+     * @return The number of matches.
+     */
+    public long getMatches() { return playerWins + enemyWins + unfinished; }
+
+    /**
+     * Gets the number of matches won by the player.
+     *
+     * @return The number of player wins.
+     */
+    public long getPlayerWins() { return playerWins; }
+
+    /**
+     * Gets the number of matches won by the enemy.
+     *
+     * @return The number of enemy wins.
+     */
+    public long getEnemyWins() { return enemyWins; }
+
+    /**
+     * Gets the number of matches stopped before either side won.
+     *
+     * @return The number of unfinished matches.
+     */
+    public long getUnfinished() { return unfinished; }
+
+    /**
+     * Gets the total length of all matches.
+     *
+     * @return The total number of ticks simulated.
+     */
+    public long getTotalTicks() { return totalTicks; }
+
+    /**
+     * Gets the length of the shortest match.
+     *
+     * @return The length of the shortest match in ticks, or zero if no matches were recorded.
+     */
+    public long getShortestMatch() { return getMatches() == 0 ? 0 : shortestMatch; }
+
+    /**
+     * Gets the length of the longest match.
+     *
+     * @return The length of the longest match in ticks.
+     */
+    public long getLongestMatch() { return longestMatch; }
+
+    /**
+     * Gets the average length of a match.
+     *
+     * @return The average match length in ticks, or zero if no matches were recorded.
+     */
+    public double getAverageMatchLength() { return getMatches() == 0 ? 0 : (double) totalTicks / getMatches(); }
+
+    /**
+     * Gets the average final score of the player.
+     *
+     * @return The average player score, or zero if no matches were recorded.
+     */
+    public double getAveragePlayerScore() { return getMatches() == 0 ? 0 : (double) totalPlayerScore / getMatches(); }
+
+    /**
+     * Gets the average final score of the enemy.
+     *
+     * @return The average enemy score, or zero if no matches were recorded.
+     */
+    public double getAverageEnemyScore() { return getMatches() == 0 ? 0 : (double) totalEnemyScore / getMatches(); }
+
+    /**
+     * Generates a string representation of the accumulated outcomes.
+     *
+     * @return A summary of the matches.
+     */
+    @Override
+    public String toString() {
+        return String.format("Matches: %d (player %d, enemy %d, unfinished %d)%n"
+                        + "Match length: average %.1f, shortest %d, longest %d ticks%n"
+                        + "Average score: player %.2f, enemy %.2f",
+                getMatches(), playerWins, enemyWins, unfinished,
+                getAverageMatchLength(), getShortestMatch(), longestMatch,
+                getAveragePlayerScore(), getAverageEnemyScore());
+    }
+}
@@ -0,0 +1,84 @@
+package spaceInvaders.Simulation;
+
+import spaceInvaders.Controller.IGameController;
+
+import java.util.Random;
+
+/**
+ * A bot that presses random keys in the Space Invaders game. On each tick it presses one of its keys
+ * with a fixed chance. Given the same seeded random number generator it always presses the same keys,
+ * so runs using random bots can be repeated exactly.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class RandomBot implements Bot {
+    /**
+     * Default chance of pressing a key on each tick.
+     */
+    public static final double DEFAULT_ACTION_CHANCE = 0.25;
+
+    /**
+     * Random number generator deciding which keys to press.
+     */
+    private final Random random;
+
+    /**
+     * The keys the bot may press.
+     */
+    private final GameKey[] keys;
+
+    /**
+     * Chance of pressing a key on each tick.
+     */
+    private final double actionChance;
+
+    /**
+     * Constructs a bot pressing the given keys.
+     *
+     * @param random       Random number generator deciding which keys to press.
+     * @param actionChance Chance of pressing a key on each tick, between 0 and 1.
+     * @param keys         The keys the bot may press.
+     * @throws IllegalArgumentException If the chance is outside 0 to 1 or no keys are given.
+     */
+    public RandomBot(Random random, double actionChance, GameKey... keys) {
+        if (actionChance < 0 || actionChance > 1 || keys.length == 0) { throw new IllegalArgumentException("Action chance must be between 0 and 1 and at least one key is needed"); }
+        this.random = random;
+        this.actionChance = actionChance;
+        this.keys = keys.clone();
+    }
+
+    /**
+     * Creates a bot playing the player with the arrow keys and the spacebar.
+     *
+     * @param random Random number generator deciding which keys to press.
+     * @return A new bot controlling the player.
+     */
+    public static RandomBot player(Random random) {
+        return new RandomBot(random, DEFAULT_ACTION_CHANCE, GameKey.LEFT, GameKey.UP, GameKey.RIGHT, GameKey.DOWN, GameKey.SPACE);
+    }
+
+    /**
+     * Creates a bot playing the enemy with 'WASD' and 'F'.
+     *
+     * @param random Random number generator deciding which keys to press.
+     * @return A new bot controlling the enemy.
+     */
+    public static RandomBot enemy(Random random) {
+        return new RandomBot(random, DEFAULT_ACTION_CHANCE, GameKey.W, GameKey.A, GameKey.S, GameKey.D, GameKey.F);
+    }
+
+    /**
+     * Presses a random key with the bot's action chance.
+     *
+     * @param tick       The number of the tick about to be simulated.
+     * @param controller The game controller to send key presses to.
+     */
+    @Override
+    public void act(long tick, IGameController controller) {
+        if (random.nextDouble() < actionChance) {
+            GameKey key = keys[random.nextInt(keys.length)];
+            controller.handleKeyPress(key.getKey(), key.getKeyCode());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package spaceInvaders.Simulation;
+
+/**
+ * The results of a headless run of the Space Invaders game: how many ticks were simulated, how many
+ * matches finished and who won them, and how long the run took.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class RunReport {
+    /**
+     * The number of ticks simulated.
+     */
+    private final long ticks;
+
+    /**
+     * The number of matches won by the player.
+     * The number of matches won by the enemy.
+     */
+    private final long playerWins, enemyWins;
+
+    /**
+     * The wall-clock time the run took, in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a report of a finished run.
+     *
+     * @param ticks        The number of ticks simulated.
+     * @param playerWins   The number of matches won by the player.
+     * @param enemyWins    The number of matches won by the enemy.
+     * @param elapsedNanos The wall-clock time the run took, in nanoseconds.
+     */
+    public RunReport(long ticks, long playerWins, long enemyWins, long elapsedNanos) {
+        this.ticks = ticks;
+        this.playerWins = playerWins;
+        this.enemyWins = enemyWins;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of ticks simulated.
+     *
+     * @return The number of ticks.
+     */
+    public long getTicks() { return ticks; }
+
+    /**
+     * Gets the number of matches that finished during the run.
+     *
+     * @return The number of finished matches.
+     */
+    public long getMatches() { return playerWins + enemyWins; }
+
+    /**
+     * Gets the number of matches won by the player.
+     *
+     * @return The number of player wins.
+     */
+    public long getPlayerWins() { return playerWins; }
+
+    /**
+     * Gets the number of matches won by the enemy.
+     *
+     * @return The number of enemy wins.
+     */
+    public long getEnemyWins() { return enemyWins; }
+
+    /**
+     * Gets the wall-clock time the run took.
+     *
+     * @return The elapsed time, in nanoseconds.
+     */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * Gets the simulation speed of the run.
+     *
+     * @return The number of ticks simulated per second of wall-clock time.
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : ticks * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Generates a string representation of the report.
+     *
+     * @return A summary of the run.
+     */
+    @Override
+    public String toString() {
+        return String.format("Ticks: %d%nMatches: %d (player %d, enemy %d)%nElapsed: %.3f s%nTicks per second: %.0f",
+                ticks, getMatches(), playerWins, enemyWins, elapsedNanos / 1e9, getTicksPerSecond());
+    }
+}
@@ -0,0 +1,97 @@
+package spaceInvaders.Simulation;
+
+import spaceInvaders.Controller.IGameController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A bot that replays a fixed script of key presses in the Space Invaders game. Each entry in the script
+ * presses one key on one tick. Scripts can be built in code or read from text, one press per line in the
+ * form {@code <tick> <key>}, for example {@code 120 SPACE}. Key names are those of {@link GameKey}.
+ * Blank lines and lines starting with '#' are ignored.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class ScriptedBot implements Bot {
+    /**
+     * The ticks of the scripted key presses, in order.
+     */
+    private final List<Long> ticks = new ArrayList<>();
+
+    /**
+     * The scripted keys, matching {@link #ticks}.
+     */
+    private final List<GameKey> keys = new ArrayList<>();
+
+    /**
+     * Index of the next key press to replay.
+     */
+    private int next;
+
+    /**
+     * Constructs a bot with an empty script.
+     */
+    public ScriptedBot() {
+        // Key presses are added with press.
+    }
+
+    /**
+     * Parses a script from text lines.
+     *
+     * @param lines The lines of the script.
+     * @return A bot replaying the script.
+     * @throws IllegalArgumentException If a line cannot be parsed or the ticks are out of order.
+     */
+    public static ScriptedBot parse(List<String> lines) {
+        ScriptedBot bot = new ScriptedBot();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+");
+            if (parts.length != 2) { throw new IllegalArgumentException("Expected '<tick> <key>' but got: " + line); }
+            try {
+                bot.press(Long.parseLong(parts[0]), GameKey.valueOf(parts[1].toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid script line: " + line, e);
+            }
+        }
+        return bot;
+    }
+
+    /**
+     * Adds a key press to the end of the script.
+     *
+     * @param tick The tick on which to press the key.
+     * @param key  The key to press.
+     * @return This bot, so presses can be chained.
+     * @throws IllegalArgumentException If the tick is negative or earlier than the previous press.
+     */
+    public ScriptedBot press(long tick, GameKey key) {
+        if (tick < 0 || (!ticks.isEmpty() && tick < ticks.get(ticks.size() - 1))) { throw new IllegalArgumentException("Ticks must be non-negative and in order"); }
+        ticks.add(tick);
+        keys.add(key);
+        return this;
+    }
+
+    /**
+     * Presses every key scripted for the given tick. Presses scripted for earlier ticks that were missed are skipped.
+     *
+     * @param tick       The number of the tick about to be simulated.
+     * @param controller The game controller to send key presses to.
+     */
+    @Override
+    public void act(long tick, IGameController controller) {
+        while (next < ticks.size() && ticks.get(next) <= tick) {
+            if (ticks.get(next) == tick) {
+                GameKey key = keys.get(next);
+                controller.handleKeyPress(key.getKey(), key.getKeyCode());
+            }
+            next++;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * The "spaceInvaders.Simulation" package contains classes for running the Space Invaders game without
+ * a display. This includes a headless runner that plays matches as fast as the CPU allows and bots that
+ * supply player and enemy input, either at random or from a script.
+ * Classes in this package are used for balance testing and regression runs on machines with no display.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+package spaceInvaders.Simulation;
@@ -0,0 +1,52 @@
+package spaceInvaders.View;
+
+import spaceInvaders.Controller.IGameController;
+
+/**
+ * The <code>HeadlessView</code> class is a view that draws nothing. It lets the game run without
+ * Processing or a display, for example when simulating matches on a server.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class HeadlessView implements IGameView {
+    /**
+     * The game controller driving this view.
+     */
+    private IGameController controller;
+
+    /**
+     * Default constructor for the HeadlessView class.
+     */
+    public HeadlessView() {
+        // default constructor.
+    }
+
+    /**
+     * Sets the game controller for this view.
+     *
+     * @param controller The game controller to set.
+     */
+    @Override
+    public void setController(IGameController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Does nothing, as there is nothing to draw.
+     */
+    @Override
+    public void updateView() {
+
+    }
+
+    /**
+     * Generates a string representation of the HeadlessView object.
+     *
+     * @return A string representation of the HeadlessView.
+     */
+    @Override
+    public String toString() {
+        return "HeadlessView {}";
+    }
+}
@@ -0,0 +1,278 @@
+package StartupBenchmark;
+
+import spaceInvaders.Metrics.StartupTimeline;
+import spaceInvaders.Metrics.StartupTimeline.Mark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Harness measuring how long the Space Invaders game takes to start, from launching a new JVM to the first frame
+ * drawn, or to the first tick simulated when running headless. Startup cannot be measured inside a warmed-up JVM the
+ * way JMH measures steady-state work, so every run launches the game in a fresh process.
+ *
+ * Each run starts the game with the {@value StartupTimeline#PROBE_PROPERTY} system property set, so it reports its
+ * {@link StartupTimeline} as soon as it has started, and the desktop game exits after its first frame. The harness
+ * converts each mark into the time since it launched the process, and reports the distribution of each over all runs,
+ * along with the time until the process exited. The times of every run are kept, so the minimum, median, 90th
+ * percentile and maximum are exact rather than rounded to a histogram bucket.
+ *
+ * Options:
+ * {@code --runs <n>} the number of measured runs of each target (default 10),
+ * {@code --warmup <n>} the number of runs to discard first, so the files are in the operating system's cache (default 2),
+ * {@code --target <desktop|headless|all>} which launcher to measure (default all),
+ * {@code --jvm-arg <arg>} an argument for the launched JVMs, such as {@code -Xshare:off} or
+ * {@code -XX:SharedArchiveFile=<file>}, repeatable. Running twice with different JVM arguments shows what an option
+ * such as class-data sharing is worth.
+ *
+ * The launched JVMs use the harness's own Java installation and class path. The desktop target needs a display and
+ * the {@code images} folder on the class path.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class StartupHarness {
+    /**
+     * How long a run may take before it is stopped and counted as failed, in seconds.
+     */
+    private static final long TIMEOUT_SECONDS = 60;
+
+    /**
+     * The launchers whose startup can be measured.
+     */
+    public enum Target {
+        /**
+         * The game with its window, up to the first frame drawn.
+         */
+        DESKTOP("spaceInvaders.Main.Main"),
+
+        /**
+         * The game without a display, up to the first tick simulated. A single tick is run.
+         */
+        HEADLESS("spaceInvaders.Simulation.HeadlessRunner", "--ticks", "1");
+
+        /**
+         * The class whose main method starts the game.
+         */
+        private final String mainClass;
+
+        /**
+         * The arguments passed to the main method.
+         */
+        private final List<String> args;
+
+        /**
+         * Constructs a target.
+         *
+         * @param mainClass The class whose main method starts the game.
+         * @param args      The arguments passed to the main method.
+         */
+        Target(String mainClass, String... args) {
+            this.mainClass = mainClass;
+            this.args = List.of(args);
+        }
+    }
+
+    /**
+     * Arguments for the launched JVMs.
+     */
+    private final List<String> jvmArgs;
+
+    /**
+     * The time from launch to each mark in each recorded run of one target, in nanoseconds, indexed by run.
+     * A run that did not report a mark leaves -1 in its place.
+     */
+    private final Map<Mark, long[]> marks = new EnumMap<>(Mark.class);
+
+    /**
+     * The time from launch to exit in each recorded run of one target, in nanoseconds, indexed by run.
+     */
+    private long[] exits = new long[0];
+
+    /**
+     * Number of measured runs that were recorded.
+     */
+    private int recorded;
+
+    /**
+     * Number of measured runs that failed.
+     */
+    private int failures;
+
+    /**
+     * Constructs a harness.
+     *
+     * @param jvmArgs Arguments for the launched JVMs.
+     */
+    public StartupHarness(List<String> jvmArgs) {
+        this.jvmArgs = List.copyOf(jvmArgs);
+    }
+
+    /**
+     * Launches a target repeatedly and records the times of its startup marks.
+     *
+     * @param target The launcher to measure.
+     * @param warmup The number of runs to discard first.
+     * @param runs   The number of runs to record.
+     * @throws IllegalArgumentException If either number of runs is negative.
+     */
+    public void measure(Target target, int warmup, int runs) {
+        if (warmup < 0 || runs < 0) { throw new IllegalArgumentException("Runs must not be negative"); }
+        marks.clear();
+        exits = new long[runs];
+        recorded = 0;
+        failures = 0;
+        for (int run = 0; run < warmup + runs; run++) {
+            try {
+                launch(target, run >= warmup);
+            } catch (IOException e) {
+                System.err.println("Run " + (run + 1) + " of " + target + " failed: " + e.getMessage());
+                if (run >= warmup) {
+                    failures++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Launches the target once and waits for it to exit.
+     *
+     * @param target The launcher to measure.
+     * @param record Whether to record the times of this run.
+     * @throws IOException If the process cannot be started, times out, or exits without reporting its timeline.
+     */
+    private void launch(Target target, boolean record) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-D" + StartupTimeline.PROBE_PROPERTY + "=true");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(target.mainClass);
+        command.addAll(target.args);
+        Path output = Files.createTempFile("startup", ".log");
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(output.toFile());
+
+        long launchMicros = System.currentTimeMillis() * 1000;
+        long launchNanos = System.nanoTime();
+        Process process = builder.start();
+        try {
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IOException("Timed out after " + TIMEOUT_SECONDS + " s");
+            }
+            long exitNanos = System.nanoTime() - launchNanos;
+            Map<Mark, Long> timeline = null;
+            String lastLine = "";
+            for (String line : Files.readAllLines(output)) {
+                if (line.startsWith(StartupTimeline.REPORT_PREFIX)) {
+                    timeline = StartupTimeline.parse(line);
+                } else if (!line.isBlank()) {
+                    lastLine = line.trim();
+                }
+            }
+            if (timeline == null) { throw new IOException("No startup timeline reported, exit code " + process.exitValue() + ": " + lastLine); }
+            if (record) {
+                exits[recorded] = exitNanos;
+                for (Map.Entry<Mark, Long> mark : timeline.entrySet()) {
+                    // The wall clock ticks in milliseconds, so the JVM's start can appear to come just before the launch
+                    long sinceLaunch = Math.max(0, mark.getValue() - launchMicros) * 1000;
+                    marks.computeIfAbsent(mark.getKey(), key -> newSamples())[recorded] = sinceLaunch;
+                }
+                recorded++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        } finally {
+            process.destroyForcibly();
+            Files.deleteIfExists(output);
+        }
+    }
+
+    /**
+     * Creates the samples of a mark for the current target, with no run reporting it yet.
+     *
+     * @return One slot per measured run, each -1.
+     */
+    private long[] newSamples() {
+        long[] samples = new long[exits.length];
+        Arrays.fill(samples, -1);
+        return samples;
+    }
+
+    /**
+     * Writes the distribution of the time from launch to each mark, and to exit, in milliseconds.
+     *
+     * @param target The launcher that was measured.
+     * @param out    The stream to write the report to.
+     */
+    public void writeReport(Target target, PrintStream out) {
+        out.printf("%s startup, %d runs, %d failed, milliseconds since launch%n", target.name().toLowerCase(Locale.ROOT), recorded, failures);
+        if (recorded == 0) {
+            return;
+        }
+        out.printf("%-18s %8s %8s %8s %8s %8s%n", "Mark", "Min", "Mean", "Median", "p90", "Max");
+        for (Map.Entry<Mark, long[]> mark : marks.entrySet()) {
+            writeRow(out, mark.getKey().name().toLowerCase(Locale.ROOT), mark.getValue());
+        }
+        writeRow(out, "exit", Arrays.copyOf(exits, recorded));
+    }
+
+    /**
+     * Writes one row of the report. The median of an even number of runs is the mean of the middle two, and the
+     * 90th percentile is the time that at least 90% of the runs were within.
+     *
+     * @param out     The stream to write the row to.
+     * @param name    The name of the row.
+     * @param samples The time from launch in each run, in nanoseconds, or -1 for runs without the mark.
+     */
+    private static void writeRow(PrintStream out, String name, long[] samples) {
+        long[] sorted = Arrays.stream(samples).filter(sample -> sample >= 0).sorted().toArray();
+        int n = sorted.length;
+        if (n == 0) {
+            return;
+        }
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        double median = (sorted[(n - 1) / 2] + sorted[n / 2]) / 2.0;
+        long p90 = sorted[(n * 9 + 9) / 10 - 1];
+        out.printf("%-18s %8.1f %8.1f %8.1f %8.1f %8.1f%n", name, sorted[0] / 1e6, mean / 1e6, median / 1e6, p90 / 1e6, sorted[n - 1] / 1e6);
+    }
+
+    /**
+     * Measures the startup of the game from the command line and prints a report for each target.
+     *
+     * @param args Command line arguments, described in the class documentation.
+     */
+    public static void main(String[] args) {
+        int runs = 10, warmup = 2;
+        String target = "all";
+        List<String> jvmArgs = new ArrayList<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--runs": runs = Integer.parseInt(args[i + 1]); break;
+                case "--warmup": warmup = Integer.parseInt(args[i + 1]); break;
+                case "--target": target = args[i + 1]; break;
+                case "--jvm-arg": jvmArgs.add(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        StartupHarness harness = new StartupHarness(jvmArgs);
+        for (Target candidate : Target.values()) {
+            if (target.equals("all") || target.equalsIgnoreCase(candidate.name())) {
+                harness.measure(candidate, warmup, runs);
+                harness.writeReport(candidate, System.out);
+                System.out.println();
+            }
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package ViewBenchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import processing.awt.PGraphicsJava2D;
+import processing.core.PApplet;
+import spaceInvaders.Model.GameModel;
+import spaceInvaders.Model.GameSnapshot;
+import spaceInvaders.Model.OverflowPolicy;
+import spaceInvaders.Model.TickClock;
+import spaceInvaders.View.GameView;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * JMH benchmark for drawing a frame of the GameView class in the Space Invaders game.
+ * The view draws into an offscreen Java2D graphics buffer, so no display or GPU is needed. Besides the whole
+ * game frame, each phase of the frame is measured on its own: the starfield, the sprites, the bullets and the HUD text.
+ *
+ * Each benchmark takes a state holding only the parameters its phase depends on, so JMH runs no trials that repeat
+ * the same measurement: the whole frame runs over every bullet count and star count, the starfield over the star
+ * counts, the bullets over the bullet counts, and the sprites and HUD once.
+ *
+ * The phases are private methods of the view and are called through reflection, in the same way the model tests
+ * reach private methods. The images are loaded from the classpath, so the images folder must be on it. Each trial
+ * caches the decoded images and font in a temporary directory of its own, so the user's asset cache is left alone
+ * and every trial sets up from the same empty cache.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameViewBenchmark {
+    /**
+     * Width and height of the offscreen frame, matching the game window.
+     */
+    private static final int WIDTH = 1000, HEIGHT = 600;
+
+    /**
+     * Number of background stars used by the states that do not vary it, matching the game's default.
+     */
+    private static final int DEFAULT_STARS = 100;
+
+    /**
+     * Default constructor for GameViewBenchmark.
+     */
+    public GameViewBenchmark() {
+        //Default constructor
+    }
+
+    /**
+     * A view drawing into an offscreen buffer, set up with a number of bullets and background stars chosen by the
+     * subclass.
+     */
+    @State(Scope.Thread)
+    public abstract static class ViewState {
+        /**
+         * The view under test.
+         */
+        GameView view;
+
+        /**
+         * The offscreen graphics buffer the view draws into.
+         */
+        private PGraphicsJava2D graphics;
+
+        /**
+         * The temporary directory the view caches its assets in.
+         */
+        private Path assetDirectory;
+
+        /**
+         * Gets the number of bullets on screen, split evenly between the player and the enemy.
+         *
+         * @return The number of bullets.
+         */
+        abstract int bullets();
+
+        /**
+         * Gets the number of stars in the scrolling background.
+         *
+         * @return The number of stars.
+         */
+        abstract int stars();
+
+        /**
+         * Creates the view with an offscreen graphics buffer, loads its assets and gives it a frame to draw.
+         *
+         * @throws Exception If the view cannot be set up through reflection.
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            assetDirectory = Files.createTempDirectory("spaceInvaders-benchmark");
+            view = new GameView(assetDirectory);
+            graphics = new PGraphicsJava2D();
+            graphics.setParent(view);
+            graphics.setPrimary(false);
+            graphics.setSize(WIDTH, HEIGHT);
+            view.g = graphics;
+            view.width = WIDTH;
+            view.height = HEIGHT;
+            setField(PApplet.class, "sketchPath", System.getProperty("user.dir")); // Normally set when the sketch is launched
+
+            graphics.beginDraw();
+            view.setup();
+            view.setStarCount(stars());
+            method("awaitSprites").invoke(view); // The sprites load in the background; wait for them before measuring
+            setField(GameView.class, "frame", createFrame());
+        }
+
+        /**
+         * Creates a game state with a star and bullets spread across the screen.
+         *
+         * @return A snapshot of the game state.
+         */
+        private GameSnapshot createFrame() {
+            GameModel model = new GameModel(new TickClock(), new Random(42), Math.max(GameModel.DEFAULT_PROJECTILE_CAPACITY, bullets()), OverflowPolicy.GROW);
+            model.updateGame(); // The first update shows the star
+            Random random = new Random(7);
+            for (int i = 0; i < bullets(); i++) {
+                if (i % 2 == 0) {
+                    model.spawnBullet(random.nextInt(WIDTH), random.nextInt(HEIGHT));
+                } else {
+                    model.spawnEnemyBullet(random.nextInt(WIDTH), random.nextInt(HEIGHT));
+                }
+            }
+            GameSnapshot frame = new GameSnapshot();
+            model.writeSnapshot(frame);
+            model.close();
+            return frame;
+        }
+
+        /**
+         * Sets a private field of the view.
+         *
+         * @param owner The class declaring the field.
+         * @param name  The name of the field.
+         * @param value The value to set.
+         * @throws ReflectiveOperationException If the field cannot be set.
+         */
+        private void setField(Class<?> owner, String name, Object value) throws ReflectiveOperationException {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(view, value);
+        }
+
+        /**
+         * Finishes drawing into the offscreen buffer and deletes the asset cache of the trial.
+         *
+         * @throws IOException If a cached file cannot be deleted.
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            graphics.endDraw();
+            try (Stream<Path> files = Files.walk(assetDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * A view with every combination of bullet count and star count, for drawing whole frames.
+     */
+    @State(Scope.Thread)
+    public static class FrameState extends ViewState {
+        /**
+         * Number of bullets on screen, split evenly between the player and the enemy.
+         */
+        @Param({"0", "100", "1000", "10000", "50000"})
+        public int bulletCount;
+
+        /**
+         * Number of stars in the scrolling background.
+         */
+        @Param({"100", "1000", "10000", "50000"})
+        public int backgroundStars;
+
+        /**
+         * Draws a whole game frame.
+         */
+        private Method drawGame;
+
+        /**
+         * Finds the drawing method of the view.
+         *
+         * @throws NoSuchMethodException If the view has no such method.
+         */
+        @Setup(Level.Trial)
+        public void findMethods() throws NoSuchMethodException {
+            drawGame = method("drawGame");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int bullets() {
+            return bulletCount;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int stars() {
+            return backgroundStars;
+        }
+    }
+
+    /**
+     * A view with a varying number of background stars and no bullets, for drawing the starfield.
+     */
+    @State(Scope.Thread)
+    public static class StarfieldState extends ViewState {
+        /**
+         * Number of stars in the scrolling background.
+         */
+        @Param({"100", "1000", "10000", "50000"})
+        public int backgroundStars;
+
+        /**
+         * Clears the frame and draws the scrolling starfield.
+         */
+        private Method drawStarryBackground;
+
+        /**
+         * Finds the drawing method of the view.
+         *
+         * @throws NoSuchMethodException If the view has no such method.
+         */
+        @Setup(Level.Trial)
+        public void findMethods() throws NoSuchMethodException {
+            drawStarryBackground = method("drawStarryBackground");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int bullets() {
+            return 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int stars() {
+            return backgroundStars;
+        }
+    }
+
+    /**
+     * A view with a varying number of bullets and the default starfield, for drawing the bullets.
+     */
+    @State(Scope.Thread)
+    public static class BulletState extends ViewState {
+        /**
+         * Number of bullets on screen, split evenly between the player and the enemy.
+         */
+        @Param({"0", "100", "1000", "10000", "50000"})
+        public int bulletCount;
+
+        /**
+         * Draws the player and enemy bullets.
+         */
+        private Method drawProjectiles;
+
+        /**
+         * Finds the drawing method of the view.
+         *
+         * @throws NoSuchMethodException If the view has no such method.
+         */
+        @Setup(Level.Trial)
+        public void findMethods() throws NoSuchMethodException {
+            drawProjectiles = method("drawProjectiles");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int bullets() {
+            return bulletCount;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int stars() {
+            return DEFAULT_STARS;
+        }
+    }
+
+    /**
+     * A view with no bullets and the default starfield, for drawing the sprites and the HUD, which depend on neither.
+     */
+    @State(Scope.Thread)
+    public static class SceneState extends ViewState {
+        /**
+         * The drawing phases of the sprites and the HUD.
+         */
+        private Method drawPlayer, drawEnemy, drawStar, drawHud;
+
+        /**
+         * Finds the drawing methods of the view.
+         *
+         * @throws NoSuchMethodException If the view has no such method.
+         */
+        @Setup(Level.Trial)
+        public void findMethods() throws NoSuchMethodException {
+            drawPlayer = method("drawPlayer");
+            drawEnemy = method("drawEnemy");
+            drawStar = method("drawStar");
+            drawHud = method("drawHud");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int bullets() {
+            return 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int stars() {
+            return DEFAULT_STARS;
+        }
+    }
+
+    /**
+     * Finds a private drawing method of the view.
+     *
+     * @param name The name of the method.
+     * @return The method, made accessible.
+     * @throws NoSuchMethodException If the view has no such method.
+     */
+    private static Method method(String name) throws NoSuchMethodException {
+        Method method = GameView.class.getDeclaredMethod(name);
+        method.setAccessible(true);
+        return method;
+    }
+
+    /**
+     * Measures drawing a whole game frame, for every bullet count and star count.
+     *
+     * @param state The view to draw.
+     * @throws Exception If drawing fails.
+     */
+    @Benchmark
+    public void frame(FrameState state) throws Exception {
+        state.drawGame.invoke(state.view);
+    }
+
+    /**
+     * Measures clearing the frame and drawing the scrolling starfield, for every star count.
+     *
+     * @param state The view to draw.
+     * @throws Exception If drawing fails.
+     */
+    @Benchmark
+    public void starfield(StarfieldState state) throws Exception {
+        state.drawStarryBackground.invoke(state.view);
+    }
+
+    /**
+     * Measures drawing the player, enemy and star sprites.
+     *
+     * @param state The view to draw.
+     * @throws Exception If drawing fails.
+     */
+    @Benchmark
+    public void sprites(SceneState state) throws Exception {
+        state.drawPlayer.invoke(state.view);
+        state.drawEnemy.invoke(state.view);
+        state.drawStar.invoke(state.view);
+    }
+
+    /**
+     * Measures drawing the player and enemy bullets, for every bullet count.
+     *
+     * @param state The view to draw.
+     * @throws Exception If drawing fails.
+     */
+    @Benchmark
+    public void bullets(BulletState state) throws Exception {
+        state.drawProjectiles.invoke(state.view);
+    }
+
+    /**
+     * Measures drawing the scores and lives. The values do not change between calls, so this is the cost of drawing
+     * the cached HUD panels.
+     *
+     * @param state The view to draw.
+     * @throws Exception If drawing fails.
+     */
+    @Benchmark
+    public void hud(SceneState state) throws Exception {
+        state.drawHud.invoke(state.view);
+    }
+}
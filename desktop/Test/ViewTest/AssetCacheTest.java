@@ -0,0 +1,244 @@
+package ViewTest;
+
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PImage;
+import spaceInvaders.View.AssetCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the AssetCache class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class AssetCacheTest {
+
+    /**
+     * Private field to hold the directory the cache writes to.
+     */
+    private Path directory;
+
+    /**
+     * Private field to hold the sketch serving the image files.
+     */
+    private ImageSketch sketch;
+
+    /**
+     * Default constructor for AssetCacheTest.
+     * This constructor initializes the AssetCacheTest class.
+     */
+    public AssetCacheTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by creating an empty cache directory and a sketch serving one image.
+     *
+     * @throws IOException If the directory cannot be created.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("spaceInvaders-cache");
+        sketch = new ImageSketch();
+        sketch.files.put("star.png", new byte[] {1, 2, 3});
+    }
+
+    /**
+     * Deletes the cache directory and everything written into it.
+     *
+     * @throws IOException If a file cannot be deleted.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Tests that an image is decoded once, and that later loads read the same pixels back from the cache.
+     *
+     * @throws IOException If the cache directory cannot be listed.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        PImage decoded = new AssetCache(sketch, directory).loadImage("star.png");
+        assertEquals(1, sketch.decodes, "The first load should decode the image.");
+        assertEquals(1, cachedFiles().size(), "The decoded pixels should be cached.");
+
+        PImage cached = new AssetCache(sketch, directory).loadImage("star.png");
+        assertEquals(1, sketch.decodes, "A later load should not decode the image again.");
+        assertImageEquals(decoded, cached);
+    }
+
+    /**
+     * Tests that an image whose file has changed since it was cached is decoded again.
+     */
+    @Test
+    public void testStaleKeyDecodesAgain() {
+        AssetCache cache = new AssetCache(sketch, directory);
+        cache.loadImage("star.png");
+        sketch.files.put("star.png", new byte[] {4, 5, 6, 7});
+
+        PImage image = cache.loadImage("star.png");
+        assertEquals(2, sketch.decodes, "A changed file should not match the cached pixels.");
+        assertImageEquals(sketch.decode(new byte[] {4, 5, 6, 7}), image);
+    }
+
+    /**
+     * Tests that a truncated or corrupt cached image falls back to decoding, and is replaced in the cache.
+     *
+     * @throws IOException If the cached file cannot be damaged.
+     */
+    @Test
+    public void testCorruptCacheFallsBackToDecoding() throws IOException {
+        AssetCache cache = new AssetCache(sketch, directory);
+        PImage decoded = cache.loadImage("star.png");
+        Path cached = cachedFiles().get(0);
+        byte[] pixels = Files.readAllBytes(cached);
+
+        Files.write(cached, Arrays.copyOf(pixels, pixels.length - 3));
+        assertImageEquals(decoded, cache.loadImage("star.png"));
+        assertEquals(2, sketch.decodes, "A truncated cached image should be decoded again.");
+
+        byte[] corrupt = Files.readAllBytes(cached);
+        corrupt[0] ^= 0xFF;
+        Files.write(cached, corrupt);
+        assertImageEquals(decoded, cache.loadImage("star.png"));
+        assertEquals(3, sketch.decodes, "A cached image with a bad header should be decoded again.");
+
+        assertImageEquals(decoded, cache.loadImage("star.png"));
+        assertEquals(3, sketch.decodes, "The damaged file should have been replaced in the cache.");
+    }
+
+    /**
+     * Tests that no temporary file is left behind when the cached image cannot be moved into place.
+     *
+     * @throws IOException If the cache directory cannot be set up or listed.
+     */
+    @Test
+    public void testFailedMoveRemovesTemporaryFile() throws IOException {
+        AssetCache cache = new AssetCache(sketch, directory);
+        cache.loadImage("star.png");
+        Path cached = cachedFiles().get(0);
+        Files.delete(cached);
+        Files.createDirectory(cached); // A non-empty directory cannot be replaced by the move
+        Files.createFile(cached.resolve("blocker"));
+
+        assertImageEquals(sketch.decode(sketch.files.get("star.png")), cache.loadImage("star.png"));
+        assertEquals(2, sketch.decodes, "The image should be decoded when it cannot be read from the cache.");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")), "The temporary file should be deleted.");
+        }
+    }
+
+    /**
+     * Tests that the default cache directory belongs to the user rather than being shared by the machine.
+     */
+    @Test
+    public void testDefaultDirectoryPerUser() {
+        Path cacheDirectory = AssetCache.defaultDirectory();
+        String cacheHome = System.getenv("XDG_CACHE_HOME");
+        Path base = cacheHome != null && Path.of(cacheHome).isAbsolute() ? Path.of(cacheHome) : Path.of(System.getProperty("user.home"), ".cache");
+        assertEquals(base.resolve("spaceInvaders").resolve("assets"), cacheDirectory, "The cache should be in the user's cache directory.");
+    }
+
+    /**
+     * Lists the cached images in the cache directory.
+     *
+     * @return The cached image files.
+     * @throws IOException If the directory cannot be listed.
+     */
+    private List<Path> cachedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".pixels")).toList();
+        }
+    }
+
+    /**
+     * Asserts that two images have the same size, format and pixels.
+     *
+     * @param expected The expected image.
+     * @param actual   The image loaded.
+     */
+    private static void assertImageEquals(PImage expected, PImage actual) {
+        assertNotNull(actual, "The image should be loaded.");
+        assertEquals(expected.width, actual.width, "The width should match.");
+        assertEquals(expected.height, actual.height, "The height should match.");
+        assertEquals(expected.format, actual.format, "The format should match.");
+        assertArrayEquals(expected.pixels, actual.pixels, "The pixels should match.");
+    }
+
+    /**
+     * A sketch that serves image files from memory and decodes each into a small image made from its bytes.
+     */
+    private static final class ImageSketch extends PApplet {
+        /**
+         * The contents of each image file, by file name.
+         */
+        private final Map<String, byte[]> files = new HashMap<>();
+
+        /**
+         * The number of images decoded.
+         */
+        private int decodes;
+
+        /**
+         * Reads an image file.
+         *
+         * @param filename The file name.
+         * @return The contents of the file, or null if there is no such file.
+         */
+        @Override
+        public byte[] loadBytes(String filename) {
+            return files.get(filename);
+        }
+
+        /**
+         * Decodes an image file.
+         *
+         * @param filename The file name.
+         * @return The image, or null if there is no such file.
+         */
+        @Override
+        public PImage loadImage(String filename) {
+            byte[] encoded = files.get(filename);
+            if (encoded == null) {
+                return null;
+            }
+            decodes++;
+            return decode(encoded);
+        }
+
+        /**
+         * Makes the image a file decodes to: one pixel per byte of the file, in a single row.
+         *
+         * @param encoded The contents of the file.
+         * @return The image.
+         */
+        private PImage decode(byte[] encoded) {
+            PImage image = new PImage(encoded.length, 1, PConstants.ARGB);
+            for (int i = 0; i < encoded.length; i++) {
+                image.pixels[i] = 0xFF000000 | encoded[i] * 0x010101;
+            }
+            return image;
+        }
+    }
+}
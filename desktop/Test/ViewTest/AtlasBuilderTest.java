@@ -0,0 +1,197 @@
+package ViewTest;
+
+import processing.core.PImage;
+import spaceInvaders.View.AtlasBuilder;
+import spaceInvaders.View.AtlasBuilder.Sprite;
+import spaceInvaders.View.SpriteAtlas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the AtlasBuilder class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class AtlasBuilderTest {
+
+    /**
+     * Private field to hold the images folder the atlas is built in.
+     */
+    private Path folder;
+
+    /**
+     * Default constructor for AtlasBuilderTest.
+     * This constructor initializes the AtlasBuilderTest class.
+     */
+    public AtlasBuilderTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by creating an empty images folder.
+     *
+     * @throws IOException If the folder cannot be created.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("spaceInvaders-atlas");
+    }
+
+    /**
+     * Deletes the images folder and everything written into it.
+     *
+     * @throws IOException If a file cannot be deleted.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Tests that a spec is parsed in order, skipping blank lines and comments.
+     */
+    @Test
+    public void testParse() {
+        List<Sprite> sprites = AtlasBuilder.parse(List.of(
+                "# Sprites of the game",
+                "",
+                "player 70 40 player.png",
+                "  explosion  60 60 explosion0.png explosion1.png explosion2.png  "));
+
+        assertEquals(2, sprites.size(), "Blank lines and comments should be skipped.");
+        assertEquals(new Sprite("player", 70, 40, List.of("player.png")), sprites.get(0), "The first sprite should be parsed.");
+        Sprite explosion = sprites.get(1);
+        assertEquals("explosion", explosion.name(), "Extra whitespace should be ignored.");
+        assertEquals(60, explosion.width(), "The width should be parsed.");
+        assertEquals(60, explosion.height(), "The height should be parsed.");
+        assertEquals(List.of("explosion0.png", "explosion1.png", "explosion2.png"), explosion.files(), "Every frame should be listed in order.");
+    }
+
+    /**
+     * Tests that malformed spec lines are rejected.
+     */
+    @Test
+    public void testParseMalformedLines() {
+        assertThrows(IllegalArgumentException.class, () -> AtlasBuilder.parse(List.of("player 70 40")), "A sprite without images should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> AtlasBuilder.parse(List.of("player wide 40 player.png")), "A size that is not a number should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> AtlasBuilder.parse(List.of("player 70 0 player.png")), "A size that is not positive should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> AtlasBuilder.parse(List.of("player 70 40 a.png", "player 70 40 b.png")), "A repeated name should be rejected.");
+    }
+
+    /**
+     * Tests that the packed frames lie inside the sheet, do not overlap, and hold their own images.
+     *
+     * @throws IOException If the atlas cannot be built or read.
+     */
+    @Test
+    public void testPackWithoutOverlap() throws IOException {
+        buildAtlas();
+        BufferedImage sheet = ImageIO.read(folder.resolve("sprites.png").toFile());
+        List<int[]> frames = readIndex();
+
+        assertEquals(6, frames.size(), "Every frame should be listed in the index.");
+        for (int i = 0; i < frames.size(); i++) {
+            int[] a = frames.get(i);
+            assertTrue(a[0] >= 0 && a[1] >= 0 && a[0] + a[2] <= sheet.getWidth() && a[1] + a[3] <= sheet.getHeight(), "Frame " + i + " should lie inside the sheet.");
+            for (int j = i + 1; j < frames.size(); j++) {
+                int[] b = frames.get(j);
+                boolean apart = a[0] + a[2] <= b[0] || b[0] + b[2] <= a[0] || a[1] + a[3] <= b[1] || b[1] + b[3] <= a[1];
+                assertTrue(apart, "Frames " + i + " and " + j + " should not overlap.");
+            }
+            int[] corners = {sheet.getRGB(a[0], a[1]), sheet.getRGB(a[0] + a[2] - 1, a[1] + a[3] - 1)};
+            for (int corner : corners) {
+                assertEquals(color(i).getRGB(), corner, "Frame " + i + " should be drawn at its position in the index.");
+            }
+        }
+    }
+
+    /**
+     * Tests that the index written by the builder can be read back by the sprite atlas.
+     *
+     * @throws IOException If the atlas cannot be built or read.
+     */
+    @Test
+    public void testIndexReadsBack() throws IOException {
+        buildAtlas();
+        BufferedImage sheet = ImageIO.read(folder.resolve("sprites.png").toFile());
+        SpriteAtlas atlas = new SpriteAtlas(new PImage(sheet.getWidth(), sheet.getHeight()), Files.readAllLines(folder.resolve("sprites.index")));
+
+        assertEquals(3, atlas.size(), "Every sprite should be in the atlas.");
+        assertEquals(1, atlas.get("player").getFrameCount(), "The player should have one frame.");
+        assertEquals(70, atlas.get("player").getWidth(), "Frames should be resized to the width in the spec.");
+        assertEquals(40, atlas.get("player").getHeight(), "Frames should be resized to the height in the spec.");
+        assertEquals(4, atlas.get("explosion").getFrameCount(), "The explosion should have every frame.");
+        assertEquals(12, atlas.get("star").getWidth(), "A small sprite should keep its size.");
+    }
+
+    /**
+     * Writes six solid images and a spec for three sprites into the images folder, then builds the atlas.
+     * Image i is filled with {@link #color(int)} of i, and is listed as frame i of the index.
+     *
+     * @throws IOException If an image cannot be written or the atlas cannot be built.
+     */
+    private void buildAtlas() throws IOException {
+        int[][] sizes = {{35, 20}, {30, 30}, {30, 30}, {30, 30}, {30, 30}, {12, 12}};
+        for (int i = 0; i < sizes.length; i++) {
+            BufferedImage image = new BufferedImage(sizes[i][0], sizes[i][1], BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            g.setColor(color(i));
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.dispose();
+            ImageIO.write(image, "png", folder.resolve("image" + i + ".png").toFile());
+        }
+        Files.write(folder.resolve("sprites.spec"), List.of(
+                "player 70 40 image0.png",
+                "explosion 60 60 image1.png image2.png image3.png image4.png",
+                "star 12 12 image5.png"));
+        AtlasBuilder.main(new String[] {folder.toString()});
+    }
+
+    /**
+     * Reads the frames listed in the index written by the builder.
+     *
+     * @return The left edge, top edge, width and height of each frame, in the order they are listed.
+     * @throws IOException If the index cannot be read.
+     */
+    private List<int[]> readIndex() throws IOException {
+        List<int[]> frames = new ArrayList<>();
+        for (String line : Files.readAllLines(folder.resolve("sprites.index"))) {
+            if (line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split(" ");
+            frames.add(new int[] {Integer.parseInt(parts[2]), Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Integer.parseInt(parts[5])});
+        }
+        return frames;
+    }
+
+    /**
+     * Gets the solid colour of a test image.
+     *
+     * @param i The number of the image.
+     * @return A colour that differs for each image.
+     */
+    private static Color color(int i) {
+        return new Color(40 * i, 255 - 40 * i, 100);
+    }
+}
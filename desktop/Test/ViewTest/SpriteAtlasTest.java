@@ -0,0 +1,144 @@
+package ViewTest;
+
+import processing.core.PApplet;
+import processing.core.PImage;
+import spaceInvaders.View.SpriteAtlas;
+import spaceInvaders.View.SpriteAtlas.Animation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for the SpriteAtlas class in the Space Invaders game.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class SpriteAtlasTest {
+
+    /**
+     * Index of a 100x50 sheet holding a one-frame sprite and a three-frame sprite.
+     */
+    private static final List<String> INDEX = List.of(
+            "# Generated by spaceInvaders.View.AtlasBuilder from sprites.spec. Do not edit.",
+            "# <name> <frame> <x> <y> <width> <height>",
+            "",
+            "blast 0 0 0 20 20",
+            "blast 1 21 0 20 20",
+            "blast 2 42 0 20 20",
+            "player 0 0 21 35 20");
+
+    /**
+     * Private field to hold the sprite sheet the atlas is built on.
+     */
+    private PImage sheet;
+
+    /**
+     * Private field to hold a SpriteAtlas object for testing.
+     */
+    private SpriteAtlas atlas;
+
+    /**
+     * Default constructor for SpriteAtlasTest.
+     * This constructor initializes the SpriteAtlasTest class.
+     */
+    public SpriteAtlasTest() {
+        //Default constructor
+    }
+
+    /**
+     * Sets up the test by building an atlas from a blank sheet and the test index.
+     */
+    @BeforeEach
+    public void setUp() {
+        sheet = new PImage(100, 50);
+        atlas = new SpriteAtlas(sheet, INDEX);
+    }
+
+    /**
+     * Tests that the index is parsed into one animation per sprite, skipping blank lines and comments.
+     */
+    @Test
+    public void testIndexParsing() {
+        assertEquals(2, atlas.size(), "Each sprite should be in the atlas once.");
+        Animation blast = atlas.get("blast");
+        assertEquals(3, blast.getFrameCount(), "Every frame of a sprite should be in its animation.");
+        assertEquals(20, blast.getWidth(), "The width should be read from the index.");
+        assertEquals(20, blast.getHeight(), "The height should be read from the index.");
+        Animation player = atlas.get("player");
+        assertEquals(1, player.getFrameCount(), "A still sprite should have one frame.");
+        assertEquals(35, player.getWidth(), "Each sprite should keep its own width.");
+        assertNull(atlas.get("enemy"), "A sprite that is not in the index should not be found.");
+    }
+
+    /**
+     * Tests that malformed index lines are rejected.
+     */
+    @Test
+    public void testMalformedIndex() {
+        assertThrows(IllegalArgumentException.class, () -> new SpriteAtlas(sheet, List.of("blast 0 0 0 20")), "A line with a missing field should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> new SpriteAtlas(sheet, List.of("blast 0 0 0 20 tall")), "A field that is not a number should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> new SpriteAtlas(sheet, List.of("blast 0 90 0 20 20")), "A frame past the edge of the sheet should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> new SpriteAtlas(sheet, List.of("blast 0 0 0 0 20")), "A frame without width should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> new SpriteAtlas(sheet, List.of("blast 1 0 0 20 20")), "A sprite that does not start at frame zero should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> new SpriteAtlas(sheet, List.of("blast 0 0 0 20 20", "blast 2 21 0 20 20")), "A skipped frame should be rejected.");
+    }
+
+    /**
+     * Tests that drawing a frame copies that frame's part of the sheet, and that frame numbers wrap around.
+     */
+    @Test
+    public void testDrawFrameLookup() {
+        RecordingSketch sketch = new RecordingSketch();
+        Animation blast = atlas.get("blast");
+        for (int frame = 0; frame < 4; frame++) {
+            blast.draw(sketch, frame, 5, 7);
+        }
+        atlas.get("player").draw(sketch, 9, 0, 0);
+
+        assertArrayEquals(new int[] {0, 0, 20, 20}, sketch.sources.get(0), "The first frame should be copied from its place in the sheet.");
+        assertArrayEquals(new int[] {21, 0, 41, 20}, sketch.sources.get(1), "The second frame should be copied from its place in the sheet.");
+        assertArrayEquals(new int[] {42, 0, 62, 20}, sketch.sources.get(2), "The third frame should be copied from its place in the sheet.");
+        assertArrayEquals(sketch.sources.get(0), sketch.sources.get(3), "Frame numbers past the last frame should wrap around.");
+        assertArrayEquals(new int[] {0, 21, 35, 41}, sketch.sources.get(4), "A still sprite should always draw its only frame.");
+        assertSame(sheet, sketch.image, "Frames should be drawn from the sprite sheet.");
+    }
+
+    /**
+     * A sketch that records the part of the image copied by each draw instead of drawing it.
+     */
+    private static final class RecordingSketch extends PApplet {
+        /**
+         * The left, top, right and bottom edges in the image of each part copied, in order.
+         */
+        private final List<int[]> sources = new ArrayList<>();
+
+        /**
+         * The image last drawn.
+         */
+        private PImage image;
+
+        /**
+         * Records the part of the image that would be drawn.
+         *
+         * @param img The image to draw.
+         * @param a   The x-coordinate of the left edge on screen.
+         * @param b   The y-coordinate of the top edge on screen.
+         * @param c   The width on screen.
+         * @param d   The height on screen.
+         * @param u1  The left edge of the part in the image.
+         * @param v1  The top edge of the part in the image.
+         * @param u2  The right edge of the part in the image.
+         * @param v2  The bottom edge of the part in the image.
+         */
+        @Override
+        public void image(PImage img, float a, float b, float c, float d, int u1, int v1, int u2, int v2) {
+            image = img;
+            sources.add(new int[] {u1, v1, u2, v2});
+        }
+    }
+}
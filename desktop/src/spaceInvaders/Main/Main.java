@@ -0,0 +1,80 @@
+package spaceInvaders.Main;
+
+import processing.core.PApplet;
+import spaceInvaders.Controller.GameController;
+import spaceInvaders.Controller.ThreadedGameController;
+import spaceInvaders.Metrics.PhaseMetrics;
+import spaceInvaders.Metrics.StartupTimeline;
+import spaceInvaders.Model.GameModel;
+import spaceInvaders.View.GameView;
+
+import java.util.Arrays;
+
+/**
+ * Main class for the Space Invaders game. This class sets up the game's model, view, and controller,
+ * and starts the Processing sketch.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class Main {
+
+    /**
+     * Command line option that runs the simulation on its own thread instead of the rendering thread.
+     */
+    private static final String THREADED_OPTION = "--threaded";
+
+    /**
+     * Command line option followed by the number of stars in the background.
+     */
+    private static final String STARS_OPTION = "--stars";
+
+    /**
+     * Default constructor for the Main class.
+     */
+    public Main() {
+        // Default constructor
+    }
+
+    /**
+     * The main method is the entry point of the application. It initializes the game's
+     * model, view, and controller, and starts the Processing sketch to run the game.
+     *
+     * @param args Command line arguments. Pass {@value #THREADED_OPTION} to run the simulation on a dedicated thread,
+     *             and {@value #STARS_OPTION} followed by a number to set the number of stars in the background.
+     */
+    public static void main(String[] args) {
+        StartupTimeline.process().mark(StartupTimeline.Mark.MAIN);
+
+        // Initialize the game model.
+        GameModel model = new GameModel();
+        StartupTimeline.process().mark(StartupTimeline.Mark.MODEL_CONSTRUCTED);
+
+        // Initialize the game view.
+        GameView view = new GameView();
+        int starsIndex = Arrays.asList(args).indexOf(STARS_OPTION);
+        if (starsIndex >= 0 && starsIndex + 1 < args.length) {
+            view.setStarCount(Integer.parseInt(args[starsIndex + 1]));
+        }
+
+        // Time the game updates and frames; press 'M' in the game to print the report.
+        PhaseMetrics metrics = new PhaseMetrics();
+        model.setMetrics(metrics);
+        view.setMetrics(metrics);
+
+        if (Arrays.asList(args).contains(THREADED_OPTION)) {
+            // Run the simulation on its own thread; the controller links itself with the view.
+            ThreadedGameController controller = new ThreadedGameController(model, view);
+            controller.start();
+        } else {
+            // Initialize the game controller and link it with the model and view.
+            GameController controller = new GameController(model, view);
+
+            // Set the controller in the view.
+            view.setController(controller);
+        }
+
+        // Start the Processing sketch with the game view.
+        PApplet.runSketch(new String[]{"Space Invaders"}, view);
+    }
+}
@@ -0,0 +1,216 @@
+package spaceInvaders.View;
+
+import processing.core.PApplet;
+import processing.core.PFont;
+import processing.core.PImage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * The AssetCache class loads the images and fonts of the Space Invaders game through a cache on disk, so that
+ * launches after the first skip the expensive part of loading them.
+ *
+ * Images are stored decoded: the first time an image is loaded, its pixels are written to the cache as they are,
+ * and later launches read them straight back instead of decoding the JPEG or PNG again. Each cached image is keyed by
+ * a checksum of its file, so an image that changes is decoded again. Fonts are baked into Processing's bitmap font
+ * format on the first launch, from the system font, and later launches load the bitmap font without touching the
+ * system's fonts at all.
+ *
+ * If the cache cannot be read or written, the assets are loaded directly and a warning is printed.
+ * The cache may be used from several threads at once.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class AssetCache {
+    /**
+     * Marks the start of a cached image file, followed by {@link #VERSION}.
+     */
+    private static final int MAGIC = 0x53504958; // "SPIX"
+
+    /**
+     * Version of the cached image format. Files of another version are ignored.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Size of the header of a cached image file: magic, version, width, height and format.
+     */
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    /**
+     * The sketch used to load the assets.
+     */
+    private final PApplet app;
+
+    /**
+     * The directory holding the cached assets.
+     */
+    private final Path directory;
+
+    /**
+     * Constructs a cache. The directory is created when the first asset is stored.
+     *
+     * @param app       The sketch used to load the assets.
+     * @param directory The directory holding the cached assets.
+     */
+    public AssetCache(PApplet app, Path directory) {
+        this.app = app;
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the directory the game caches its assets in by default, within the user's cache directory. That is
+     * {@code $XDG_CACHE_HOME} if it is set, or else {@code .cache} in the user's home directory. The cache is kept
+     * per user so that no other user of the machine can plant pixels or fonts for the game to load.
+     *
+     * @return The default cache directory.
+     */
+    public static Path defaultDirectory() {
+        String cacheHome = System.getenv("XDG_CACHE_HOME");
+        Path base = cacheHome != null && Path.of(cacheHome).isAbsolute()
+                ? Path.of(cacheHome)
+                : Path.of(System.getProperty("user.home"), ".cache");
+        return base.resolve("spaceInvaders").resolve("assets");
+    }
+
+    /**
+     * Loads an image, from its decoded pixels in the cache if they are there, or else by decoding its file and
+     * storing the pixels in the cache.
+     *
+     * @param asset The file name of the image.
+     * @return The image, or null if it cannot be loaded.
+     */
+    public PImage loadImage(String asset) {
+        byte[] encoded = app.loadBytes(asset);
+        if (encoded == null) {
+            return null;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(encoded);
+        Path cached = directory.resolve(asset + "-" + Long.toHexString(checksum.getValue()) + ".pixels");
+
+        if (Files.isRegularFile(cached)) {
+            try {
+                PImage image = readPixels(cached);
+                if (image != null) {
+                    return image;
+                }
+            } catch (IOException e) {
+                System.err.println("Could not read cached image " + cached + ": " + e.getMessage());
+            }
+        }
+
+        PImage image = app.loadImage(asset);
+        if (image != null) {
+            try {
+                writePixels(image, cached);
+            } catch (IOException e) {
+                System.err.println("Could not cache image " + asset + ": " + e.getMessage());
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Reads an image from its cached pixels.
+     *
+     * @param cached The cached image file.
+     * @return The image, or null if the file was written by another version or is incomplete.
+     * @throws IOException If the file cannot be read.
+     */
+    private PImage readPixels(Path cached) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(cached));
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return null;
+        }
+        int width = buffer.getInt(), height = buffer.getInt(), format = buffer.getInt();
+        if (width <= 0 || height <= 0 || buffer.remaining() != (long) width * height * Integer.BYTES) {
+            return null;
+        }
+        PImage image = app.createImage(width, height, format);
+        buffer.asIntBuffer().get(image.pixels);
+        image.updatePixels();
+        return image;
+    }
+
+    /**
+     * Writes the pixels of an image to the cache. The file is written under a temporary name and then moved into
+     * place, so a launch reading the cache at the same time never sees it half written. If either step fails, the
+     * temporary file is deleted.
+     *
+     * @param image  The image to cache.
+     * @param cached The cached image file.
+     * @throws IOException If the file cannot be written.
+     */
+    private void writePixels(PImage image, Path cached) throws IOException {
+        image.loadPixels();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + image.pixels.length * Integer.BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(image.width).putInt(image.height).putInt(image.format);
+        buffer.asIntBuffer().put(image.pixels);
+        Path temporary = createTemporary(cached);
+        try {
+            Files.write(temporary, buffer.array());
+            Files.move(temporary, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary); // Only still there if writing or moving it failed
+        }
+    }
+
+    /**
+     * Loads a font as a bitmap font from the cache, or else creates it from the system font and bakes it into the
+     * cache. The font holds Processing's standard character set, rendered at the given size. Text drawn larger than
+     * that is scaled up from the bitmaps and looks blurred, so the size should be the largest text size used.
+     *
+     * @param name The name of the system font, such as "Arial".
+     * @param size The size the characters are rendered at.
+     * @return The font.
+     */
+    public PFont loadFont(String name, int size) {
+        Path cached = directory.resolve(name + "-" + size + ".vlw");
+        if (Files.isRegularFile(cached)) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(cached))) {
+                return new PFont(in);
+            } catch (IOException e) {
+                System.err.println("Could not read cached font " + cached + ": " + e.getMessage());
+            }
+        }
+
+        PFont font = app.createFont(name, size, true, PFont.CHARSET);
+        try {
+            Path temporary = createTemporary(cached);
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                    font.save(out);
+                }
+                Files.move(temporary, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not cache font " + name + ": " + e.getMessage());
+        }
+        return font;
+    }
+
+    /**
+     * Creates an empty temporary file in the cache directory, creating the directory if needed.
+     *
+     * @param cached The cached file the temporary file will be moved to.
+     * @return The temporary file.
+     * @throws IOException If the directory or file cannot be created.
+     */
+    private Path createTemporary(Path cached) throws IOException {
+        Files.createDirectories(directory);
+        return Files.createTempFile(directory, cached.getFileName().toString(), ".tmp");
+    }
+}
@@ -0,0 +1,232 @@
+package spaceInvaders.View;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The AtlasBuilder class packs the sprite images of the Space Invaders game into a single sprite sheet.
+ * It is run at build time, whenever a sprite image or the sprite list changes, and its output is loaded by
+ * {@link SpriteAtlas} when the game starts.
+ *
+ * The sprites are listed in a spec file, one per line: a name, the size the sprite is drawn at, and one image file
+ * per animation frame. Every frame is resized to the drawing size and packed into rows of the sheet, tallest first.
+ * The builder writes the sheet as a PNG image and an index giving the position of each frame in the sheet.
+ * Example spec line for a four-frame explosion drawn at 60x60:
+ * {@code
+ *     explosion 60 60 explosion0.png explosion1.png explosion2.png explosion3.png
+ * }
+ *
+ * Run from the project directory with {@code java spaceInvaders.View.AtlasBuilder [images folder]}. The folder
+ * defaults to {@code images}, and must contain {@code sprites.spec}. The builder writes {@code sprites.png} and
+ * {@code sprites.index} into the same folder.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class AtlasBuilder {
+    /**
+     * Name of the spec file, the sheet and the index, without extension.
+     */
+    public static final String ATLAS_NAME = "sprites";
+
+    /**
+     * Empty pixels left between frames in the sheet, so smoothing at the edge of a frame never picks up its neighbour.
+     */
+    private static final int PADDING = 1;
+
+    /**
+     * Default constructor for AtlasBuilder.
+     */
+    public AtlasBuilder() {
+        //Default constructor
+    }
+
+    /**
+     * Builds the sprite atlas from the spec in the images folder.
+     *
+     * @param args The images folder, optional.
+     * @throws IOException If the spec or an image cannot be read, or the sheet or index cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Path.of(args.length > 0 ? args[0] : "images");
+        List<Sprite> sprites = parse(Files.readAllLines(folder.resolve(ATLAS_NAME + ".spec")));
+        List<Frame> frames = new ArrayList<>();
+        for (Sprite sprite : sprites) {
+            for (int i = 0; i < sprite.files().size(); i++) {
+                BufferedImage original = ImageIO.read(folder.resolve(sprite.files().get(i)).toFile());
+                if (original == null) { throw new IOException("Not a readable image: " + sprite.files().get(i)); }
+                frames.add(new Frame(sprite.name(), i, resize(original, sprite.width(), sprite.height())));
+            }
+        }
+
+        BufferedImage sheet = pack(frames);
+        ImageIO.write(sheet, "png", folder.resolve(ATLAS_NAME + ".png").toFile());
+        try (PrintStream index = new PrintStream(folder.resolve(ATLAS_NAME + ".index").toFile())) {
+            writeIndex(frames, index);
+        }
+        System.out.println("Packed " + frames.size() + " frames of " + sprites.size() + " sprites into a "
+                + sheet.getWidth() + "x" + sheet.getHeight() + " sheet");
+    }
+
+    /**
+     * Parses a sprite spec from text lines. Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @param lines The lines of the spec.
+     * @return The sprites, in the order they are listed.
+     * @throws IllegalArgumentException If a line cannot be parsed, a size is not positive or a name is repeated.
+     */
+    public static List<Sprite> parse(List<String> lines) {
+        List<Sprite> sprites = new ArrayList<>();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+");
+            if (parts.length < 4) { throw new IllegalArgumentException("Expected '<name> <width> <height> <image>...' but got: " + line); }
+            int width, height;
+            try {
+                width = Integer.parseInt(parts[1]);
+                height = Integer.parseInt(parts[2]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid spec line: " + line, e);
+            }
+            if (width <= 0 || height <= 0) { throw new IllegalArgumentException("Sprite size must be positive: " + line); }
+            for (Sprite sprite : sprites) {
+                if (sprite.name().equals(parts[0])) { throw new IllegalArgumentException("Sprite listed twice: " + parts[0]); }
+            }
+            sprites.add(new Sprite(parts[0], width, height, List.of(parts).subList(3, parts.length)));
+        }
+        return sprites;
+    }
+
+    /**
+     * Creates a copy of an image resized to the given size, averaging the pixels each new pixel covers.
+     *
+     * @param original The image to resize.
+     * @param width    The width of the copy.
+     * @param height   The height of the copy.
+     * @return The resized copy, with alpha.
+     */
+    private static BufferedImage resize(BufferedImage original, int width, int height) {
+        Image scaled = original.getScaledInstance(width, height, Image.SCALE_AREA_AVERAGING);
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = resized.createGraphics();
+        g.drawImage(scaled, 0, 0, null);
+        g.dispose();
+        return resized;
+    }
+
+    /**
+     * Packs frames into rows of a sheet, tallest frame first, and records the position of each frame.
+     * The sheet is made about as wide as it is tall, and at least as wide as the widest frame.
+     *
+     * @param frames The frames to pack. Their positions are set.
+     * @return The sheet, with every frame drawn at its position.
+     */
+    static BufferedImage pack(List<Frame> frames) {
+        List<Frame> tallestFirst = new ArrayList<>(frames);
+        tallestFirst.sort(Comparator.comparingInt((Frame frame) -> frame.image.getHeight()).reversed());
+        long area = 0;
+        int widest = 1;
+        for (Frame frame : frames) {
+            area += (long) (frame.image.getWidth() + PADDING) * (frame.image.getHeight() + PADDING);
+            widest = Math.max(widest, frame.image.getWidth());
+        }
+        int sheetWidth = Math.max(widest, (int) Math.ceil(Math.sqrt(area)));
+
+        int x = 0, y = 0, rowHeight = 0;
+        for (Frame frame : tallestFirst) {
+            if (x + frame.image.getWidth() > sheetWidth) { // Start a new row
+                x = 0;
+                y += rowHeight + PADDING;
+                rowHeight = 0;
+            }
+            frame.x = x;
+            frame.y = y;
+            x += frame.image.getWidth() + PADDING;
+            rowHeight = Math.max(rowHeight, frame.image.getHeight());
+        }
+
+        BufferedImage sheet = new BufferedImage(sheetWidth, Math.max(1, y + rowHeight), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sheet.createGraphics();
+        for (Frame frame : frames) {
+            g.drawImage(frame.image, frame.x, frame.y, null);
+        }
+        g.dispose();
+        return sheet;
+    }
+
+    /**
+     * Writes the index of a packed sheet: one line per frame, in the order the frames were listed.
+     *
+     * @param frames The packed frames.
+     * @param out    The stream to write the index to.
+     */
+    static void writeIndex(List<Frame> frames, PrintStream out) {
+        out.println("# Generated by spaceInvaders.View.AtlasBuilder from " + ATLAS_NAME + ".spec. Do not edit.");
+        out.println("# <name> <frame> <x> <y> <width> <height>");
+        for (Frame frame : frames) {
+            out.println(frame.name + " " + frame.number + " " + frame.x + " " + frame.y + " "
+                    + frame.image.getWidth() + " " + frame.image.getHeight());
+        }
+    }
+
+    /**
+     * A sprite listed in the spec.
+     *
+     * @param name   The name the sprite is looked up by.
+     * @param width  The width the sprite is drawn at.
+     * @param height The height the sprite is drawn at.
+     * @param files  The image file of each animation frame, in order.
+     */
+    public record Sprite(String name, int width, int height, List<String> files) {
+    }
+
+    /**
+     * One animation frame of a sprite, resized and waiting to be packed.
+     */
+    static final class Frame {
+        /**
+         * The name of the sprite.
+         */
+        final String name;
+
+        /**
+         * The number of the frame within the sprite's animation.
+         */
+        final int number;
+
+        /**
+         * The resized image of the frame.
+         */
+        final BufferedImage image;
+
+        /**
+         * The position of the frame in the sheet, set when it is packed.
+         */
+        int x, y;
+
+        /**
+         * Constructs a frame that has not been packed yet.
+         *
+         * @param name   The name of the sprite.
+         * @param number The number of the frame within the sprite's animation.
+         * @param image  The resized image of the frame.
+         */
+        Frame(String name, int number, BufferedImage image) {
+            this.name = name;
+            this.number = number;
+            this.image = image;
+        }
+    }
+}
@@ -1,9 +1,21 @@
 package spaceInvaders.View;
 
+import jdk.jfr.FlightRecorder;
 import processing.core.PApplet;
 import processing.core.PFont;
 import processing.core.PImage;
 import spaceInvaders.Controller.IGameController;
+import spaceInvaders.Metrics.FrameEvent;
+import spaceInvaders.Metrics.Phase;
+import spaceInvaders.Metrics.PhaseMetrics;
+import spaceInvaders.Metrics.StartupTimeline;
+import spaceInvaders.Model.GameSnapshot;
+
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 
@@ -16,34 +28,97 @@ import spaceInvaders.Controller.IGameController;
  * @author MD Amanullah
  */
 public class GameView extends PApplet implements IGameView {
+    /**
+     * Number of drawn frames each frame of a sprite animation is shown for.
+     */
+    private static final int FRAMES_PER_ANIMATION_FRAME = 6;
+
+    /**
+     * Size the font's characters are baked at: the largest text size used, so the bitmaps are only ever scaled down.
+     */
+    private static final int FONT_SIZE = 50;
+
     /**
      * The game controller responsible for managing game logic.
      */
     private IGameController controller;
 
+    /**
+     * Histograms recording how long each frame takes to draw, or null if frames are not timed.
+     */
+    private PhaseMetrics metrics;
+
+    /**
+     * Live performance diagnostics, drawn on top of the game while {@link #showOverlay} is set.
+     */
+    private final PerformanceOverlay overlay = new PerformanceOverlay();
+
+    /**
+     * Flag to indicate whether the performance overlay is shown. Toggled with the 'O' key.
+     */
+    private boolean showOverlay = false;
+
+    /**
+     * The game state being drawn in the current frame, taken from the controller once at the start of each frame.
+     */
+    private GameSnapshot frame;
+
+    /**
+     * Draws the bullets of both sides straight into the frame's pixels, in one batch.
+     */
+    private final ProjectileRenderer projectiles = new ProjectileRenderer();
+
     /**
      * Images used in the game:
      * - startScreenImage: The image displayed at the start of the game.
-     * - playerImage: The image representing the player character.
-     * - starImage: The image representing stars in the background.
-     * - enemyImage: The image representing the enemy character.
      * - gameOverScreenImage: The image displayed at the end of the game.
      */
-    private PImage startScreenImage, playerImage, starImage, enemyImage, gameOverScreenImage;
+    private PImage startScreenImage, gameOverScreenImage;
+
+    /**
+     * Sprites used in the game, all drawn from the sprite atlas:
+     * - playerSprite: The player character.
+     * - starSprite: The collectable star.
+     * - enemySprite: The enemy character.
+     */
+    private SpriteAtlas.Animation playerSprite, starSprite, enemySprite;
+
+    /**
+     * The images and fonts of the game, loaded through a cache of decoded pixels and baked fonts on disk.
+     */
+    private AssetCache assets;
+
+    /**
+     * The directory the asset cache keeps its files in.
+     */
+    private final Path assetDirectory;
+
+    /**
+     * The sprite atlas, loaded on a background thread while the start screen shows. Created in {@link #setup()}.
+     */
+    private CompletableFuture<SpriteAtlas> spriteAtlas;
+
+    /**
+     * The game over screen image, loaded on a background thread while the start screen shows.
+     * Created in {@link #setup()}.
+     */
+    private CompletableFuture<PImage> gameOverScreen;
 
     /**
      * Font used for displaying text in the game.
      */
     private PFont font;
 
+    /**
+     * The scores and lives shown during the game, rendered into cached panels. Created in {@link #setup()}.
+     */
+    private Hud hud;
+
 
     /**
-     * Arrays to store star positions and speeds:
-     * - starX: X-coordinates of stars.
-     * - starY: Y-coordinates of stars.
-     * - starSpeeds: Speeds of stars.
+     * The pre-rendered, scrolling starry background. Created in {@link #setup()}.
      */
-    private float[] starX, starY, starSpeeds;
+    private Starfield starfield;
 
     /**
      * Number of stars in the background.
@@ -99,10 +174,22 @@ public class GameView extends PApplet implements IGameView {
 
     /**
      * Default constructor for the GameView class.
-     * This constructor initializes the GameView object.
+     * This constructor initializes the GameView object, caching its assets in the user's default cache directory.
      */
     public GameView() {
-        // default constructor.
+        this(AssetCache.defaultDirectory());
+    }
+
+    /**
+     * Constructor for GameView with its own asset cache directory, so that benchmarks and tests do not read or
+     * fill the cache of the installed game.
+     *
+     * @param assetDirectory The directory the decoded images and baked fonts are cached in.
+     * @throws IllegalArgumentException If the directory is null.
+     */
+    public GameView(Path assetDirectory) {
+        if (assetDirectory == null) { throw new IllegalArgumentException("Asset directory must not be null"); }
+        this.assetDirectory = assetDirectory;
     }
 
 
@@ -118,47 +205,80 @@ public class GameView extends PApplet implements IGameView {
 
     /**
      * Initializes the game view by loading images, setting the font, and initializing stars.
+     * Only what the start screen needs is loaded before the first frame; the other images load in the background.
      */
     @Override
     public void setup() {
         try {
+            assets = new AssetCache(this, assetDirectory);
             loadImages(); // Load game images
-            font = createFont("Arial", 32); // Create a font for text display
+            font = assets.loadFont("Arial", FONT_SIZE); // Bitmap font for text display, baked on the first launch
             textFont(font);
+            hud = new Hud(this, font); // Needs the renderer, which exists once setup() runs
             initStars(); // Initialize the starry background
         } catch (Exception e) {
             System.err.println("Error in setup: " + e.getMessage());
         }
+        StartupTimeline.process().mark(StartupTimeline.Mark.SETUP_DONE);
     }
 
     /**
      * Loads game images including start screen, player, enemy, star, and game over screen.
+     * The start screen image is loaded straight away, because it is drawn on the first frame. The sprite atlas and
+     * the game over screen are loaded on a background thread and picked up when first drawn.
+     * The player, enemy and star sprites come from the sprite atlas built by {@link AtlasBuilder}, already at the
+     * size they are drawn at, so they are drawn at their native size without resampling.
      * Displays an error message if there is an issue loading any image.
      */
     private void loadImages() {
         try {
-            startScreenImage = loadImage("startScreen.jpg");
-            playerImage = loadImage("player.png");
-            enemyImage = loadImage("enemy.png");
-            starImage = loadImage("star.png");
-            gameOverScreenImage = loadImage("gameOverScreen.jpg");
+            startScreenImage = assets.loadImage("startScreen.jpg");
+            ExecutorService loader = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "Asset loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            spriteAtlas = CompletableFuture.supplyAsync(() -> SpriteAtlas.load(this, assets, AtlasBuilder.ATLAS_NAME), loader);
+            gameOverScreen = CompletableFuture.supplyAsync(() -> assets.loadImage("gameOverScreen.jpg"), loader);
+            loader.shutdown(); // The thread ends once both images have loaded
         } catch (Exception e) {
             System.err.println("Error loading images: " + e.getMessage());
         }
     }
 
     /**
-     * Initializes the starry background by creating arrays for star positions and speeds.
-     * Randomly generates initial positions and speeds for stars.
+     * Takes the player, enemy and star sprites from the sprite atlas the first time they are needed,
+     * waiting for the atlas only if it has not finished loading yet.
+     */
+    private void awaitSprites() {
+        if (playerSprite == null) {
+            SpriteAtlas atlas = spriteAtlas.join();
+            playerSprite = atlas.get("player");
+            enemySprite = atlas.get("enemy");
+            starSprite = atlas.get("star");
+        }
+    }
+
+    /**
+     * Initializes the starry background by rendering the stars into the layers of a new starfield.
+     * Randomly places the stars; the drawing cost per frame does not depend on how many there are.
      */
     private void initStars() {
-        starX = new float[numStars];
-        starY = new float[numStars];
-        starSpeeds = new float[numStars];
-        for (int i = 0; i < numStars; i++) {
-            starX[i] = random(width);
-            starY[i] = random(height);
-            starSpeeds[i] = random(1, 3);
+        starfield = new Starfield(this, width, height, numStars, new Random());
+    }
+
+    /**
+     * Sets the number of stars in the background. If the view has already been set up, the starfield is
+     * rendered again with the new number of stars.
+     *
+     * @param starCount The number of stars.
+     * @throws IllegalArgumentException If the number of stars is negative.
+     */
+    public void setStarCount(int starCount) {
+        if (starCount < 0) { throw new IllegalArgumentException("Star count must not be negative"); }
+        numStars = starCount;
+        if (starfield != null) {
+            initStars();
         }
     }
 
@@ -167,7 +287,10 @@ public class GameView extends PApplet implements IGameView {
      * and is responsible for the main game loop rendering.
      *
      * The method performs the following actions:
-     * - Updates the game state by calling {@code controller.updateGame()}.
+     * - Advances the game state by calling {@code controller.advance()}, which runs as many fixed-length
+     *   simulation steps as are due, so the game speed does not depend on the frame rate.
+     * - Takes the latest game state snapshot from the controller in a single call. Everything drawn in the
+     *   frame comes from this one snapshot, so a frame never mixes state from different updates.
      * - Checks the current game state (info screen, game running, paused, game over, or start screen)
      *   and renders the appropriate screen.
      * - The rendering for each state is handled by separate methods: {@code drawInfoScreen()},
@@ -175,26 +298,49 @@ public class GameView extends PApplet implements IGameView {
      *   {@code drawStartScreen()}.
      * - In the case of the start screen, it additionally renders the "Game Info" button.
      * - Exception handling is implemented to catch and report errors that occur during the rendering process.
+     * - Records the frame in the performance overlay, and draws the overlay on top if it is shown.
+     * - If metrics have been set, the time taken to draw the frame is recorded. If Java Flight Recorder is
+     *   recording frame events, one is emitted for the frame.
+     * - The first frame is marked on the startup timeline. If the game was launched to measure its startup,
+     *   the timeline is reported and the sketch exits.
      */
     @Override
     public void draw() {
+        long start = System.nanoTime();
+        FrameEvent event = FlightRecorder.isInitialized() ? FrameEvent.beginIfRecording() : null; // Avoids starting up the recorder
+        int steps = 0;
         try {
-            controller.updateGame();
+            steps = controller.advance(System.nanoTime());
+            frame = controller.getSnapshot();
+            overlay.recordFrame(start, steps);
             if (showInfoScreen) {
                 drawInfoScreen();
             } else if (controller.isGameRunning()) {
                 drawGame();
             } else if (controller.isGamePaused()) {
                 drawPausedScreen();
-            } else if (controller.isGameOver()) {
+            } else if (frame.isGameOver()) {
                 drawGameOverScreen();
             } else if (controller.isStartScreen()) {
                 drawStartScreen();
                 drawGameInfoButton();
             }
+            if (showOverlay) {
+                overlay.draw(this, frame);
+            }
         } catch (Exception e) {
             System.err.println("Error in draw: " + e.getMessage());
         }
+        if (metrics != null) {
+            metrics.record(Phase.RENDER, System.nanoTime() - start);
+        }
+        if (event != null && frame != null) {
+            event.finish(steps, frame.getBulletCount(), frame.getEnemyBulletCount());
+        }
+        if (StartupTimeline.process().mark(StartupTimeline.Mark.FIRST_FRAME) && StartupTimeline.isProbe()) {
+            StartupTimeline.process().writeReport(System.out);
+            exit(); // Launched only to measure startup
+        }
     }
 
     /**
@@ -309,39 +455,29 @@ public class GameView extends PApplet implements IGameView {
 
 
     /**
-     * Draws the game elements including the starry background, player, bullets, enemy,
-     * enemy bullets, and star (if exists). Also displays the player's score and lives,
-     * and the enemy's score and lives.
+     * Draws the game elements including the starry background, player, enemy, star (if exists),
+     * and the bullets of both sides. Also displays the player's score and lives,
+     * and the enemy's score and lives, from the cached HUD.
+     * The bullets are drawn after all the sprites, so they can be written into the frame's pixels in a single batch.
      */
     private void drawGame() {
+        awaitSprites();
         drawStarryBackground();
         drawPlayer();
-        drawBullets();
         drawEnemy();
-        drawEnemyBullets();
-        if (controller.isStarExists()) {
+        if (frame.isStarExists()) {
             drawStar();
         }
-        displayScoreAndLives();
-        displayEnemyScoreAndLives();
+        drawProjectiles();
+        drawHud();
     }
 
     /**
      * Draws the starry background with moving stars.
-     * It updates the position of stars and redraws them.
+     * The starfield clears the screen and scrolls its pre-rendered layers, so no stars are drawn one by one.
      */
     private void drawStarryBackground() {
-        background(0);
-        fill(255);
-        noStroke();
-        for (int i = 0; i < numStars; i++) {
-            starX[i] -= starSpeeds[i];
-            if (starX[i] < 0) {
-                starX[i] = width;
-                starY[i] = random(height);
-            }
-            ellipse(starX[i], starY[i], 2, 2);
-        }
+        starfield.draw(this);
     }
 
     /**
@@ -355,74 +491,51 @@ public class GameView extends PApplet implements IGameView {
      * Draws the player character at its current position.
      */
     private void drawPlayer() {
-        image(playerImage, controller.getPlayerX(), controller.getPlayerY(), 120, 100);
+        playerSprite.draw(this, animationFrame(), frame.getPlayerX(), frame.getPlayerY());
     }
 
     /**
      * Draws the enemy character at its current position.
      */
     private void drawEnemy() {
-        int enemyX = controller.getEnemyX();
-        int enemyY = controller.getEnemyY();
-        image(enemyImage, enemyX, enemyY, 120, 100);
+        int enemyX = frame.getEnemyX();
+        int enemyY = frame.getEnemyY();
+        enemySprite.draw(this, animationFrame(), enemyX, enemyY);
     }
 
     /**
-     * Draws bullets fired by the player. Each bullet is represented as an ellipse.
+     * Gets the frame of the sprite animations to draw, advancing every {@link #FRAMES_PER_ANIMATION_FRAME} frames.
+     *
+     * @return The animation frame number.
      */
-    private void drawBullets() {
-        fill(255, 0, 0);
-        for (int i = 0; i < controller.getBulletCount(); i++) {
-            int[] bulletPos = controller.getBulletPosition(i);
-            if (bulletPos != null) {
-                ellipse(bulletPos[0], bulletPos[1], 10, 20);
-            }
-        }
+    private int animationFrame() {
+        return frameCount / FRAMES_PER_ANIMATION_FRAME;
     }
 
     /**
-     * Draws bullets fired by the enemy. Each bullet is represented as an ellipse.
+     * Draws the bullets fired by the player in red and those fired by the enemy in blue.
+     * All bullets are rasterized straight into the frame's pixels, so their cost does not depend on the renderer's
+     * shape pipeline.
      */
-    private void drawEnemyBullets() {
-        fill(0, 0, 255);
-        for (int i = 0; i < controller.getEnemyBulletCount(); i++) {
-            int[] bulletPos = controller.getEnemyBulletPosition(i);
-            if (bulletPos != null) {
-                ellipse(bulletPos[0], bulletPos[1], 10, 20);
-            }
-        }
+    private void drawProjectiles() {
+        projectiles.draw(this, frame);
     }
 
     /**
      * Draws the star object if it exists in the game.
      */
     private void drawStar() {
-        int[] starPosition = controller.getStarPosition();
-        if (starPosition != null && starImage != null) {
-            image(starImage, starPosition[0], starPosition[1], 50, 50);
+        if (frame.isStarExists() && starSprite != null) {
+            starSprite.draw(this, animationFrame(), frame.getStarX(), frame.getStarY());
         }
     }
 
     /**
-     * Displays the player's current score and remaining lives on the screen.
+     * Displays the player's and the enemy's current scores and remaining lives on the screen.
+     * The text is only rendered again when one of the values changes.
      */
-    private void displayScoreAndLives() {
-        fill(255);
-        textSize(25);
-        textAlign(LEFT, TOP);
-        text("Player Score: " + controller.getScore(), 10, 10);
-        text("Player Lives: " + controller.getLifeCount(), 10, 50);
-    }
-
-    /**
-     * Displays the enemy's current score and remaining lives on the screen.
-     */
-    private void displayEnemyScoreAndLives() {
-        fill(0, 255, 0); // Green color
-        textSize(25);
-        textAlign(RIGHT, TOP);
-        text("Enemy Score: " + controller.getEnemyScore(), width - 10, 10);
-        text("Enemy Lives: " + controller.getEnemyLives(), width - 20, 40);
+    private void drawHud() {
+        hud.draw(this, frame.getScore(), frame.getLifeCount(), frame.getEnemyScore(), frame.getEnemyLives());
     }
 
     /**
@@ -439,13 +552,16 @@ public class GameView extends PApplet implements IGameView {
      * Draws the game over screen with the winner's name and final score.
      */
     private void drawGameOverScreen() {
+        if (gameOverScreenImage == null) {
+            gameOverScreenImage = gameOverScreen.join(); // Waits only if the match ended before the image loaded
+        }
         background(gameOverScreenImage);
         fill(255, 0, 0); //red color
         textSize(50);
         textAlign(CENTER, CENTER);
 
-        int playerScore = controller.getScore();
-        int enemyScore = controller.getEnemyScore();
+        int playerScore = frame.getScore();
+        int enemyScore = frame.getEnemyScore();
 
         String winner = (playerScore > enemyScore) ? "Player" : "Enemy";
 
@@ -455,12 +571,18 @@ public class GameView extends PApplet implements IGameView {
 
     /**
      * Called when a key is pressed. Delegates the key event to the game controller.
+     * Pressing 'M' prints the latency report of the game phases instead, if metrics have been set,
+     * and pressing 'O' shows or hides the performance overlay.
      */
     @Override
     public void keyPressed() {
         if (key == ' ' && showInfoScreen) {
             showInfoScreen = false;
 
+        } else if ((key == 'm' || key == 'M') && metrics != null) {
+            metrics.writeReport(System.out);
+        } else if (key == 'o' || key == 'O') {
+            showOverlay = !showOverlay;
         } else {
             // Existing key press handling logic
             controller.handleKeyPress(key, keyCode);
@@ -468,6 +590,27 @@ public class GameView extends PApplet implements IGameView {
     }
 
 
+    /**
+     * Called when the sketch is shutting down. Shuts the game down through the controller before
+     * releasing the resources of the sketch.
+     */
+    @Override
+    public void dispose() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+        super.dispose();
+    }
+
+    /**
+     * Sets the histograms that record how long each frame takes to draw.
+     *
+     * @param metrics The histograms to record into, or null to stop timing frames.
+     */
+    public void setMetrics(PhaseMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Sets the game controller for this view.
      *
@@ -487,7 +630,7 @@ public class GameView extends PApplet implements IGameView {
     }
 
     /**
-     * Generates a string representation of the GameView object, including information about the controller, player image, star image, enemy image, and font used.
+     * Generates a string representation of the GameView object, including information about the controller, player sprite, star sprite, enemy sprite, and font used.
      *
      * @return A string representation of the GameView.
      */
@@ -495,9 +638,9 @@ public class GameView extends PApplet implements IGameView {
     public String toString() {
         return "GameView {" +
                 "\n  Controller: " + controller +
-                "\n  Player Image: " + playerImage +
-                "\n  Star Image: " + starImage +
-                "\n  Enemy Image: " + enemyImage +
+                "\n  Player Sprite: " + playerSprite +
+                "\n  Star Sprite: " + starSprite +
+                "\n  Enemy Sprite: " + enemySprite +
                 "\n  Font: " + font +
                 "\n}";
     }
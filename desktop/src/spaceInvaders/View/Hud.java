@@ -0,0 +1,138 @@
+package spaceInvaders.View;
+
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PFont;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+/**
+ * The Hud class draws the scores and lives of the player and the enemy on top of the Space Invaders game.
+ * The text is rendered into two transparent offscreen panels, the player's in the top left corner and the enemy's
+ * in the top right corner. A panel is only rendered again when one of its values changes, so in most frames no
+ * strings are built and no glyphs are rasterized. After rendering, a panel's pixels are copied into a plain image,
+ * which the renderer keeps converted between frames and draws faster than the offscreen graphics itself.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class Hud {
+    /**
+     * Width and height of each panel, in pixels.
+     */
+    private static final int PANEL_WIDTH = 320, PANEL_HEIGHT = 80;
+
+    /**
+     * Size of the text.
+     */
+    private static final int TEXT_SIZE = 25;
+
+    /**
+     * The offscreen graphics the text of the player and the enemy is rendered into.
+     */
+    private final PGraphics playerPanel, enemyPanel;
+
+    /**
+     * Copies of the rendered panels of the player and the enemy, drawn on every frame.
+     */
+    private final PImage playerImage, enemyImage;
+
+    /**
+     * The font the text is rendered in.
+     */
+    private final PFont font;
+
+    /**
+     * The values shown on the panels. Negative until the panels have first been rendered.
+     */
+    private int score = -1, lives = -1, enemyScore = -1, enemyLives = -1;
+
+    /**
+     * Constructs a HUD with empty panels. The panels are rendered when the HUD is first drawn.
+     *
+     * @param app  The sketch the HUD is drawn on, used to create the panels.
+     * @param font The font the text is rendered in, or null for the default font.
+     */
+    public Hud(PApplet app, PFont font) {
+        this.playerPanel = app.createGraphics(PANEL_WIDTH, PANEL_HEIGHT);
+        this.enemyPanel = app.createGraphics(PANEL_WIDTH, PANEL_HEIGHT);
+        this.playerImage = app.createImage(PANEL_WIDTH, PANEL_HEIGHT, PConstants.ARGB);
+        this.enemyImage = app.createImage(PANEL_WIDTH, PANEL_HEIGHT, PConstants.ARGB);
+        this.font = font;
+    }
+
+    /**
+     * Draws the HUD, first rendering again any panel whose values have changed since it was last drawn.
+     *
+     * @param app        The sketch to draw on.
+     * @param score      The player's score.
+     * @param lives      The player's lives.
+     * @param enemyScore The enemy's score.
+     * @param enemyLives The enemy's lives.
+     */
+    public void draw(PApplet app, int score, int lives, int enemyScore, int enemyLives) {
+        if (score != this.score || lives != this.lives) {
+            this.score = score;
+            this.lives = lives;
+            renderPlayerPanel();
+        }
+        if (enemyScore != this.enemyScore || enemyLives != this.enemyLives) {
+            this.enemyScore = enemyScore;
+            this.enemyLives = enemyLives;
+            renderEnemyPanel();
+        }
+        app.image(playerImage, 0, 0);
+        app.image(enemyImage, app.width - PANEL_WIDTH, 0);
+    }
+
+    /**
+     * Renders the player's score and lives in white, aligned to the left of the player's panel.
+     */
+    private void renderPlayerPanel() {
+        beginPanel(playerPanel);
+        playerPanel.fill(255);
+        playerPanel.textAlign(PConstants.LEFT, PConstants.TOP);
+        playerPanel.text("Player Score: " + score, 10, 10);
+        playerPanel.text("Player Lives: " + lives, 10, 50);
+        endPanel(playerPanel, playerImage);
+    }
+
+    /**
+     * Renders the enemy's score and lives in green, aligned to the right of the enemy's panel.
+     */
+    private void renderEnemyPanel() {
+        beginPanel(enemyPanel);
+        enemyPanel.fill(0, 255, 0); // Green color
+        enemyPanel.textAlign(PConstants.RIGHT, PConstants.TOP);
+        enemyPanel.text("Enemy Score: " + enemyScore, PANEL_WIDTH - 10, 10);
+        enemyPanel.text("Enemy Lives: " + enemyLives, PANEL_WIDTH - 20, 40);
+        endPanel(enemyPanel, enemyImage);
+    }
+
+    /**
+     * Starts rendering a panel: clears it to transparent and sets the font.
+     *
+     * @param panel The panel to render.
+     */
+    private void beginPanel(PGraphics panel) {
+        panel.beginDraw();
+        panel.clear();
+        if (font != null) {
+            panel.textFont(font);
+        }
+        panel.textSize(TEXT_SIZE);
+    }
+
+    /**
+     * Finishes rendering a panel and copies its pixels into the image drawn on every frame.
+     *
+     * @param panel The rendered panel.
+     * @param image The image to copy the panel into.
+     */
+    private static void endPanel(PGraphics panel, PImage image) {
+        panel.endDraw();
+        panel.loadPixels();
+        System.arraycopy(panel.pixels, 0, image.pixels, 0, image.pixels.length);
+        image.updatePixels();
+    }
+}
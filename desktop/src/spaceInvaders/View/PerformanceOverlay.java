@@ -0,0 +1,319 @@
+package spaceInvaders.View;
+
+import processing.core.PApplet;
+import spaceInvaders.Model.GameSnapshot;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * The PerformanceOverlay class draws live performance diagnostics on top of the Space Invaders game.
+ * It shows a graph of the most recent frame times, the simulation steps run per frame, the bullets in flight,
+ * the allocation rate of the rendering thread and the number of garbage collections so far.
+ *
+ * The overlay is fed once per frame through {@link #recordFrame(long, int)}, whether it is visible or not, so the
+ * graph is already filled when it is switched on. Frame times and step counts are kept in ring buffers and all text
+ * is formatted into a reused character buffer, so neither recording nor drawing allocates.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class PerformanceOverlay {
+    /**
+     * Number of frames shown in the frame time graph.
+     */
+    private static final int HISTORY = 120;
+
+    /**
+     * How often the allocation rate and garbage collection count are sampled, in nanoseconds.
+     */
+    private static final long SAMPLE_NANOS = 500_000_000L;
+
+    /**
+     * The frame time at the top of the graph, in milliseconds. Longer frames are cut off.
+     */
+    private static final float GRAPH_MAX_MILLIS = 50;
+
+    /**
+     * The frame time budget at 60 frames per second, in milliseconds, drawn as a line across the graph.
+     */
+    private static final float BUDGET_MILLIS = 1000f / 60;
+
+    /**
+     * Width and height of the overlay panel, and height of the frame time graph within it.
+     */
+    private static final int WIDTH = 290, HEIGHT = 170, GRAPH_HEIGHT = 60;
+
+    /**
+     * Height of a line of text.
+     */
+    private static final int LINE_HEIGHT = 18;
+
+    /**
+     * The time between the start of each of the most recent frames and the one before it, in milliseconds.
+     */
+    private final float[] frameMillis = new float[HISTORY];
+
+    /**
+     * The simulation steps run at the start of each of the most recent frames.
+     */
+    private final int[] frameSteps = new int[HISTORY];
+
+    /**
+     * Index in the ring buffers where the next frame is recorded.
+     * Number of frames recorded, up to {@link #HISTORY}.
+     */
+    private int next, recorded;
+
+    /**
+     * Start time of the previous frame, or zero before the first frame.
+     */
+    private long lastFrameNanos;
+
+    /**
+     * The thread allocation counter. Null if the JVM cannot count allocated bytes per thread.
+     */
+    private final com.sun.management.ThreadMXBean threads;
+
+    /**
+     * The garbage collectors of the JVM.
+     */
+    private final GarbageCollectorMXBean[] collectors;
+
+    /**
+     * Time of the last sample, and the allocated bytes counted at that time.
+     */
+    private long sampleNanos, sampleBytes;
+
+    /**
+     * Allocation rate of the rendering thread over the last sample, in bytes per second.
+     */
+    private long bytesPerSecond;
+
+    /**
+     * Number of garbage collections since the JVM started, as of the last sample.
+     */
+    private long gcCount;
+
+    /**
+     * Buffer the text of each line is formatted into before it is drawn.
+     */
+    private final char[] text = new char[64];
+
+    /**
+     * Number of characters in {@link #text}.
+     */
+    private int length;
+
+    /**
+     * Constructs an overlay with an empty history.
+     */
+    public PerformanceOverlay() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        threads = bean instanceof com.sun.management.ThreadMXBean counter && counter.isThreadAllocatedMemorySupported() ? counter : null;
+        collectors = ManagementFactory.getGarbageCollectorMXBeans().toArray(new GarbageCollectorMXBean[0]);
+    }
+
+    /**
+     * Records the start of a frame. Must be called on the rendering thread, once per frame.
+     *
+     * @param nowNanos The time the frame started, from {@link System#nanoTime()}.
+     * @param steps    The simulation steps run at the start of the frame.
+     */
+    public void recordFrame(long nowNanos, int steps) {
+        if (lastFrameNanos != 0) {
+            frameMillis[next] = (nowNanos - lastFrameNanos) / 1e6f;
+            frameSteps[next] = steps;
+            next = (next + 1) % HISTORY;
+            recorded = Math.min(recorded + 1, HISTORY);
+        }
+        lastFrameNanos = nowNanos;
+
+        if (nowNanos - sampleNanos >= SAMPLE_NANOS) {
+            long bytes = threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+            if (sampleNanos != 0) {
+                bytesPerSecond = (long) ((bytes - sampleBytes) * 1e9 / (nowNanos - sampleNanos));
+            }
+            sampleNanos = nowNanos;
+            sampleBytes = bytes;
+            long count = 0;
+            for (GarbageCollectorMXBean collector : collectors) {
+                count += Math.max(0, collector.getCollectionCount());
+            }
+            gcCount = count;
+        }
+    }
+
+    /**
+     * Draws the overlay in the bottom left corner of the sketch.
+     *
+     * @param app   The sketch to draw on.
+     * @param frame The game state drawn in the current frame.
+     */
+    public void draw(PApplet app, GameSnapshot frame) {
+        int x = 10;
+        int y = app.height - HEIGHT - 10;
+        app.pushStyle();
+        app.noStroke();
+        app.fill(0, 180);
+        app.rect(x, y, WIDTH, HEIGHT);
+        drawGraph(app, x + 10, y + 10 + GRAPH_HEIGHT);
+
+        float totalMillis = 0, worstMillis = 0;
+        int totalSteps = 0;
+        for (int i = 0; i < recorded; i++) {
+            totalMillis += frameMillis[i];
+            worstMillis = Math.max(worstMillis, frameMillis[i]);
+            totalSteps += frameSteps[i];
+        }
+        float averageMillis = recorded == 0 ? 0 : totalMillis / recorded;
+        int last = (next + HISTORY - 1) % HISTORY;
+
+        app.fill(255);
+        app.textSize(14);
+        app.textAlign(PApplet.LEFT, PApplet.TOP);
+        int line = y + 20 + GRAPH_HEIGHT;
+        clear().append("Frame ").append(averageMillis, 1).append(" ms avg, ").append(worstMillis, 1).append(" ms worst");
+        drawText(app, x + 10, line);
+        clear().append("Steps/frame ").append(recorded == 0 ? 0 : frameSteps[last]).append(" (avg ").append(recorded == 0 ? 0 : (float) totalSteps / recorded, 2).append(')');
+        drawText(app, x + 10, line += LINE_HEIGHT);
+        clear().append("Bullets ").append(frame.getBulletCount()).append(" player, ").append(frame.getEnemyBulletCount()).append(" enemy");
+        drawText(app, x + 10, line += LINE_HEIGHT);
+        clear().append("Alloc ").append(bytesPerSecond / 1024).append(" KB/s (render thread)");
+        drawText(app, x + 10, line += LINE_HEIGHT);
+        clear().append("GC count ").append(gcCount);
+        drawText(app, x + 10, line + LINE_HEIGHT);
+        app.popStyle();
+    }
+
+    /**
+     * Draws the frame time graph, oldest frame on the left. Frames within the 60 frames per second budget are
+     * drawn in green and longer frames in red. Each colour is drawn in its own pass, because the renderer creates
+     * a colour object every time the fill colour changes.
+     *
+     * @param app    The sketch to draw on.
+     * @param left   The x-coordinate of the left edge of the graph.
+     * @param bottom The y-coordinate of the bottom edge of the graph.
+     */
+    private void drawGraph(PApplet app, int left, int bottom) {
+        app.fill(0, 220, 0);
+        drawBars(app, left, bottom, false);
+        app.fill(230, 40, 40);
+        drawBars(app, left, bottom, true);
+        app.fill(255, 255, 0);
+        app.rect(left, bottom - BUDGET_MILLIS / GRAPH_MAX_MILLIS * GRAPH_HEIGHT, WIDTH - 20, 1);
+    }
+
+    /**
+     * Draws the bars of the frame time graph for the frames within or over the frame time budget.
+     *
+     * @param app        The sketch to draw on.
+     * @param left       The x-coordinate of the left edge of the graph.
+     * @param bottom     The y-coordinate of the bottom edge of the graph.
+     * @param overBudget Whether to draw the frames over the budget instead of those within it.
+     */
+    private void drawBars(PApplet app, int left, int bottom, boolean overBudget) {
+        float barWidth = (WIDTH - 20) / (float) HISTORY;
+        for (int i = 0; i < recorded; i++) {
+            float millis = frameMillis[(next - recorded + i + HISTORY) % HISTORY];
+            if (millis > BUDGET_MILLIS == overBudget) {
+                float barHeight = Math.min(millis, GRAPH_MAX_MILLIS) / GRAPH_MAX_MILLIS * GRAPH_HEIGHT;
+                app.rect(left + i * barWidth, bottom - barHeight, barWidth, barHeight);
+            }
+        }
+    }
+
+    /**
+     * Draws the formatted line of text.
+     *
+     * @param app The sketch to draw on.
+     * @param x   The x-coordinate of the text.
+     * @param y   The y-coordinate of the text.
+     */
+    private void drawText(PApplet app, int x, int y) {
+        app.text(text, 0, length, x, y);
+    }
+
+    /**
+     * Empties the text buffer.
+     *
+     * @return This overlay, to append to.
+     */
+    private PerformanceOverlay clear() {
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Appends a string to the text buffer. Characters that do not fit are dropped.
+     *
+     * @param s The string to append.
+     * @return This overlay, to append to.
+     */
+    private PerformanceOverlay append(String s) {
+        int count = Math.min(s.length(), text.length - length);
+        s.getChars(0, count, text, length);
+        length += count;
+        return this;
+    }
+
+    /**
+     * Appends a character to the text buffer, unless it is full.
+     *
+     * @param c The character to append.
+     * @return This overlay, to append to.
+     */
+    private PerformanceOverlay append(char c) {
+        if (length < text.length) {
+            text[length++] = c;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a whole number to the text buffer.
+     *
+     * @param value The number to append.
+     * @return This overlay, to append to.
+     */
+    private PerformanceOverlay append(long value) {
+        if (value < 0) {
+            append('-');
+            value = -value;
+        }
+        int start = length;
+        do {
+            append((char) ('0' + value % 10));
+            value /= 10;
+        } while (value > 0);
+        for (int i = start, j = length - 1; i < j; i++, j--) { // The digits were appended in reverse
+            char swap = text[i];
+            text[i] = text[j];
+            text[j] = swap;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a number rounded to the given number of decimal places to the text buffer.
+     *
+     * @param value    The number to append.
+     * @param decimals The number of decimal places, at least one.
+     * @return This overlay, to append to.
+     */
+    private PerformanceOverlay append(float value, int decimals) {
+        long scale = 1;
+        for (int i = 0; i < decimals; i++) {
+            scale *= 10;
+        }
+        long scaled = Math.round(Math.abs(value) * scale);
+        if (value < 0) {
+            append('-');
+        }
+        append(scaled / scale).append('.');
+        for (long digit = scale / 10; digit > 0; digit /= 10) {
+            append((char) ('0' + scaled / digit % 10));
+        }
+        return this;
+    }
+}
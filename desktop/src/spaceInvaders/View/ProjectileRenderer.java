@@ -0,0 +1,111 @@
+package spaceInvaders.View;
+
+import processing.core.PApplet;
+import spaceInvaders.Model.Bullet;
+import spaceInvaders.Model.GameSnapshot;
+
+/**
+ * The ProjectileRenderer class draws all the bullets of a frame of the Space Invaders game in one batch.
+ * Instead of sending every bullet through the renderer's shape pipeline, it fills the bullets' pixels directly in the
+ * frame's pixel buffer: the frame is read once, every bullet is written as a run of pixels per row, and the frame is
+ * written back once. The cost per bullet is a few short array fills, so tens of thousands of bullets fit in a frame.
+ *
+ * Bullets are filled ellipses centred on their position, like {@code ellipse(x, y, 10, 20)}, but without antialiasing.
+ * The span of each row of the ellipse is worked out once, when the renderer is created.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class ProjectileRenderer {
+    /**
+     * Colour of the player's bullets: opaque red.
+     */
+    private static final int BULLET_COLOR = 0xFFFF0000;
+
+    /**
+     * Colour of the enemy's bullets: opaque blue.
+     */
+    private static final int ENEMY_BULLET_COLOR = 0xFF0000FF;
+
+    /**
+     * Width and height of a bullet, in pixels.
+     */
+    private static final int WIDTH = Bullet.WIDTH, HEIGHT = Bullet.HEIGHT;
+
+    /**
+     * For each row of a bullet, the first column inside the ellipse and the column after the last one,
+     * relative to the bullet's left edge.
+     */
+    private static final int[] SPAN_START = new int[HEIGHT], SPAN_END = new int[HEIGHT];
+
+    static {
+        double radiusX = WIDTH / 2.0, radiusY = HEIGHT / 2.0;
+        for (int row = 0; row < HEIGHT; row++) {
+            double dy = (row + 0.5 - radiusY) / radiusY; // Distance of the row's centre from the middle, -1 to 1
+            double halfWidth = radiusX * Math.sqrt(1 - dy * dy);
+            SPAN_START[row] = (int) Math.round(radiusX - halfWidth);
+            SPAN_END[row] = (int) Math.round(radiusX + halfWidth);
+        }
+    }
+
+    /**
+     * Positions of the player bullets and the enemy bullets in the current frame, stored as x and y pairs.
+     * The arrays are reused from frame to frame and only grow when there are more bullets than ever before.
+     */
+    private int[] bulletPositions = new int[0], enemyBulletPositions = new int[0];
+
+    /**
+     * Draws the bullets of both sides into the frame, player bullets first. Does nothing if there are no bullets,
+     * so the frame's pixels are only read and written back when something is drawn.
+     *
+     * @param app   The sketch to draw on.
+     * @param frame The game state drawn in the current frame.
+     */
+    public void draw(PApplet app, GameSnapshot frame) {
+        if (bulletPositions.length < frame.getBulletCount() * 2) {
+            bulletPositions = new int[frame.getBulletCount() * 2];
+        }
+        if (enemyBulletPositions.length < frame.getEnemyBulletCount() * 2) {
+            enemyBulletPositions = new int[frame.getEnemyBulletCount() * 2];
+        }
+        int bullets = frame.copyBulletPositions(bulletPositions);
+        int enemyBullets = frame.copyEnemyBulletPositions(enemyBulletPositions);
+        if (bullets == 0 && enemyBullets == 0) {
+            return;
+        }
+
+        app.loadPixels();
+        fill(app.pixels, app.width, app.height, bulletPositions, bullets, BULLET_COLOR);
+        fill(app.pixels, app.width, app.height, enemyBulletPositions, enemyBullets, ENEMY_BULLET_COLOR);
+        app.updatePixels();
+    }
+
+    /**
+     * Fills the pixels of a number of bullets, clipped to the frame.
+     *
+     * @param pixels    The pixels of the frame, row by row.
+     * @param width     Width of the frame.
+     * @param height    Height of the frame.
+     * @param positions Centres of the bullets, as x and y pairs.
+     * @param count     Number of bullets.
+     * @param color     Colour of the bullets, as ARGB.
+     */
+    static void fill(int[] pixels, int width, int height, int[] positions, int count, int color) {
+        for (int i = 0; i < count * 2; i += 2) {
+            int left = positions[i] - WIDTH / 2;
+            int top = positions[i + 1] - HEIGHT / 2;
+            if (left >= width || left + WIDTH <= 0 || top >= height || top + HEIGHT <= 0) {
+                continue; // Entirely off screen
+            }
+            int firstRow = Math.max(0, -top), lastRow = Math.min(HEIGHT, height - top);
+            for (int row = firstRow; row < lastRow; row++) {
+                int start = Math.max(0, left + SPAN_START[row]);
+                int end = Math.min(width, left + SPAN_END[row]);
+                int offset = (top + row) * width;
+                for (int x = start; x < end; x++) {
+                    pixels[offset + x] = color;
+                }
+            }
+        }
+    }
+}
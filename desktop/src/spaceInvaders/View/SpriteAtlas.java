@@ -0,0 +1,186 @@
+package spaceInvaders.View;
+
+import processing.core.PApplet;
+import processing.core.PImage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The SpriteAtlas class holds the sprites of the Space Invaders game, packed into one sprite sheet by
+ * {@link AtlasBuilder}. Loading the game's sprites means decoding one small image already at the sizes the sprites
+ * are drawn at, instead of one large image per sprite that then has to be resized. Every sprite is drawn from the
+ * same sheet, so the renderer keeps a single image prepared no matter how many sprites and frames there are.
+ *
+ * Sprites are looked up by name when the view is set up and kept in fields, so drawing a frame never touches the
+ * atlas's map. Each sprite is an {@link Animation} of one or more frames.
+ * Example usage:
+ * {@code
+ *     SpriteAtlas atlas = SpriteAtlas.load(this, assets, AtlasBuilder.ATLAS_NAME);
+ *     SpriteAtlas.Animation player = atlas.get("player");
+ *     // ... in draw():
+ *     player.draw(this, frameCount / 6, x, y);
+ * }
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class SpriteAtlas {
+    /**
+     * The sprite sheet every frame is drawn from.
+     */
+    private final PImage sheet;
+
+    /**
+     * The sprites in the atlas, keyed by name.
+     */
+    private final Map<String, Animation> animations = new HashMap<>();
+
+    /**
+     * Constructs an atlas from a sprite sheet and its index.
+     *
+     * @param sheet The sprite sheet.
+     * @param index The lines of the index written by {@link AtlasBuilder}.
+     * @throws IllegalArgumentException If a line of the index cannot be parsed, a frame lies outside the sheet,
+     *                                  or the frames of a sprite are missing or out of order.
+     */
+    public SpriteAtlas(PImage sheet, List<String> index) {
+        this.sheet = sheet;
+        Map<String, List<int[]>> frames = new HashMap<>();
+        for (String line : index) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+");
+            if (parts.length != 6) { throw new IllegalArgumentException("Expected '<name> <frame> <x> <y> <width> <height>' but got: " + line); }
+            int[] frame = new int[5];
+            try {
+                for (int i = 0; i < frame.length; i++) {
+                    frame[i] = Integer.parseInt(parts[i + 1]);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid index line: " + line, e);
+            }
+            if (frame[1] < 0 || frame[2] < 0 || frame[3] <= 0 || frame[4] <= 0
+                    || frame[1] + frame[3] > sheet.width || frame[2] + frame[4] > sheet.height) {
+                throw new IllegalArgumentException("Frame lies outside the sprite sheet: " + line);
+            }
+            List<int[]> sprite = frames.computeIfAbsent(parts[0], name -> new ArrayList<>());
+            if (frame[0] != sprite.size()) { throw new IllegalArgumentException("Frames must be numbered in order from zero: " + line); }
+            sprite.add(frame);
+        }
+        for (Map.Entry<String, List<int[]>> sprite : frames.entrySet()) {
+            animations.put(sprite.getKey(), new Animation(sprite.getValue()));
+        }
+    }
+
+    /**
+     * Loads an atlas from the sprite sheet and index written by {@link AtlasBuilder}. The sheet is loaded through
+     * the asset cache, so later launches read its decoded pixels instead of decoding the PNG.
+     *
+     * @param app    The sketch used to load the index.
+     * @param assets The cache used to load the sheet.
+     * @param name   The name of the atlas: the file names of the sheet and index without their extension.
+     * @return The atlas.
+     * @throws IllegalArgumentException If the sheet or index cannot be loaded or the index cannot be parsed.
+     */
+    public static SpriteAtlas load(PApplet app, AssetCache assets, String name) {
+        PImage sheet = assets.loadImage(name + ".png");
+        String[] index = app.loadStrings(name + ".index");
+        if (sheet == null || index == null) { throw new IllegalArgumentException("Sprite atlas not found: " + name + ". Run AtlasBuilder to create it."); }
+        return new SpriteAtlas(sheet, List.of(index));
+    }
+
+    /**
+     * Gets a sprite by name.
+     *
+     * @param name The name of the sprite, as listed in the spec.
+     * @return The sprite, or null if the atlas has no sprite of that name.
+     */
+    public Animation get(String name) {
+        return animations.get(name);
+    }
+
+    /**
+     * Gets the number of sprites in the atlas.
+     *
+     * @return The number of sprites.
+     */
+    public int size() {
+        return animations.size();
+    }
+
+    /**
+     * A sprite in the atlas: one or more frames of the same size, in the sprite sheet.
+     */
+    public final class Animation {
+        /**
+         * The left edge, top edge, width and height in the sheet of each frame.
+         */
+        private final int[] x, y, width, height;
+
+        /**
+         * Constructs an animation from the frames listed in the index.
+         *
+         * @param frames Each frame as its number, left edge, top edge, width and height, in order.
+         */
+        private Animation(List<int[]> frames) {
+            int count = frames.size();
+            x = new int[count];
+            y = new int[count];
+            width = new int[count];
+            height = new int[count];
+            for (int i = 0; i < count; i++) {
+                int[] frame = frames.get(i);
+                x[i] = frame[1];
+                y[i] = frame[2];
+                width[i] = frame[3];
+                height[i] = frame[4];
+            }
+        }
+
+        /**
+         * Draws a frame of the sprite at its native size. Frame numbers past the last frame wrap around, so an
+         * ever-increasing counter loops the animation.
+         *
+         * @param app   The sketch to draw on.
+         * @param frame The number of the frame. Must not be negative.
+         * @param left  The x-coordinate of the sprite's left edge.
+         * @param top   The y-coordinate of the sprite's top edge.
+         */
+        public void draw(PApplet app, int frame, float left, float top) {
+            int i = frame % x.length;
+            app.image(sheet, left, top, width[i], height[i], x[i], y[i], x[i] + width[i], y[i] + height[i]);
+        }
+
+        /**
+         * Gets the number of frames in the animation.
+         *
+         * @return The number of frames.
+         */
+        public int getFrameCount() {
+            return x.length;
+        }
+
+        /**
+         * Gets the width of the first frame.
+         *
+         * @return The width, in pixels.
+         */
+        public int getWidth() {
+            return width[0];
+        }
+
+        /**
+         * Gets the height of the first frame.
+         *
+         * @return The height, in pixels.
+         */
+        public int getHeight() {
+            return height[0];
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package spaceInvaders.View;
+
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PImage;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The Starfield class draws the scrolling starry background of the Space Invaders game.
+ * The stars are split between three parallax layers: distant stars are dim and slow, near stars are bright and fast.
+ * Each layer is rendered once into a screen-sized pixel buffer that wraps around horizontally. Every frame the layers
+ * are scrolled and composited into one opaque image in a single pass, which is copied into the frame with
+ * {@code set()}. Rows in which the nearer layers have no stars are copied straight from the farthest layer. The cost
+ * of a frame is bounded by the screen size, not by the number of stars, so tens of thousands of stars draw about
+ * as quickly as a hundred.
+ *
+ * The composited image covers the whole screen, so no separate {@code background()} call is needed.
+ *
+ * @version 1.0
+ * @author MD Amanullah
+ */
+public class Starfield {
+    /**
+     * Scroll speed of each layer in pixels per frame, from the farthest to the nearest.
+     */
+    private static final int[] SPEEDS = {1, 2, 3};
+
+    /**
+     * Brightness of the stars in each layer, from the farthest to the nearest.
+     */
+    private static final int[] BRIGHTNESS = {120, 190, 255};
+
+    /**
+     * Width and height of a star, in pixels.
+     */
+    private static final int STAR_SIZE = 2;
+
+    /**
+     * Index of the farthest, middle and nearest layer.
+     */
+    private static final int FAR = 0, MIDDLE = 1, NEAR = 2;
+
+    /**
+     * The pre-rendered pixels of each layer. The farthest layer is opaque. The others hold only the colour of their
+     * stars, without alpha, and zero where there is no star.
+     */
+    private final int[][] layers = new int[SPEEDS.length][];
+
+    /**
+     * Whether each row of the middle or nearest layer holds part of a star.
+     */
+    private final boolean[] rowHasNearStars;
+
+    /**
+     * The image the layers are composited into every frame.
+     */
+    private final PImage image;
+
+    /**
+     * How far each layer has scrolled to the left, in pixels, between zero and the width.
+     */
+    private final int[] offsets = new int[SPEEDS.length];
+
+    /**
+     * Width and height of the layers.
+     */
+    private final int width, height;
+
+    /**
+     * Number of stars across all layers.
+     */
+    private final int starCount;
+
+    /**
+     * Constructs a starfield and renders its layers.
+     *
+     * @param app       The sketch the starfield is drawn on, used to create the layer images.
+     * @param width     Width of the starfield, in pixels.
+     * @param height    Height of the starfield, in pixels.
+     * @param starCount Number of stars across all layers.
+     * @param random    The random number generator used to place the stars.
+     * @throws IllegalArgumentException If the starfield is smaller than a star or the star count is negative.
+     */
+    public Starfield(PApplet app, int width, int height, int starCount, Random random) {
+        if (width <= 0 || height < STAR_SIZE) { throw new IllegalArgumentException("Starfield must be at least as large as a star"); }
+        if (starCount < 0) { throw new IllegalArgumentException("Star count must not be negative"); }
+        this.width = width;
+        this.height = height;
+        this.starCount = starCount;
+        this.image = app.createImage(width, height, PConstants.RGB);
+        this.rowHasNearStars = new boolean[height];
+        for (int layer = 0; layer < layers.length; layer++) {
+            int stars = starCount / layers.length + (layer < starCount % layers.length ? 1 : 0);
+            layers[layer] = renderLayer(layer, stars, random);
+        }
+    }
+
+    /**
+     * Renders the stars of one layer into a pixel buffer. The farthest layer is opaque black behind its stars, the
+     * others are zero behind their stars. Stars crossing the right edge wrap around to the left, so the layer tiles horizontally.
+     *
+     * @param layer  The index of the layer, zero being the farthest.
+     * @param stars  The number of stars in the layer.
+     * @param random The random number generator used to place the stars.
+     * @return The pixels of the layer.
+     */
+    private int[] renderLayer(int layer, int stars, Random random) {
+        int[] pixels = new int[width * height];
+        if (layer == FAR) {
+            Arrays.fill(pixels, 0xFF000000);
+        }
+        int star = (layer == FAR ? 0xFF000000 : 0) | BRIGHTNESS[layer] * 0x010101;
+        for (int i = 0; i < stars; i++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height - STAR_SIZE + 1);
+            for (int dy = 0; dy < STAR_SIZE; dy++) {
+                for (int dx = 0; dx < STAR_SIZE; dx++) {
+                    pixels[(y + dy) * width + (x + dx) % width] = star;
+                }
+                rowHasNearStars[y + dy] |= layer != FAR;
+            }
+        }
+        return pixels;
+    }
+
+    /**
+     * Scrolls every layer by its speed and draws the starfield, covering the whole screen.
+     *
+     * @param app The sketch to draw on.
+     */
+    public void draw(PApplet app) {
+        for (int layer = 0; layer < layers.length; layer++) {
+            offsets[layer] = (offsets[layer] + SPEEDS[layer]) % width;
+        }
+        int[] out = image.pixels;
+        for (int y = 0; y < height; y++) {
+            if (rowHasNearStars[y]) {
+                compositeRow(y * width, out);
+            } else {
+                int row = y * width;
+                int offset = offsets[FAR];
+                System.arraycopy(layers[FAR], row + offset, out, row, width - offset);
+                System.arraycopy(layers[FAR], row, out, row + width - offset, offset);
+            }
+        }
+        app.set(0, 0, image); // Copies the pixels straight into the frame, without blending or resampling
+    }
+
+    /**
+     * Composites one row of all three layers, each scrolled by its offset. The nearer layers are combined with the
+     * farthest one with a bitwise or, which leaves the pixels without a star unchanged and needs no branch per pixel.
+     * Where two grey stars overlap, the result is at least as bright as the brighter one.
+     *
+     * The row is processed in runs within which no layer wraps around, so the inner loop is a plain pass over
+     * three arrays.
+     *
+     * @param row The index of the first pixel of the row.
+     * @param out The composited pixels.
+     */
+    private void compositeRow(int row, int[] out) {
+        int[] far = layers[FAR], middle = layers[MIDDLE], near = layers[NEAR];
+        int x = 0;
+        while (x < width) {
+            int farX = (x + offsets[FAR]) % width;
+            int middleX = (x + offsets[MIDDLE]) % width;
+            int nearX = (x + offsets[NEAR]) % width;
+            int end = Math.min(width, x + Math.min(width - farX, Math.min(width - middleX, width - nearX)));
+            int farShift = row + farX - x, middleShift = row + middleX - x, nearShift = row + nearX - x;
+            for (; x < end; x++) {
+                out[row + x] = far[farShift + x] | middle[middleShift + x] | near[nearShift + x];
+            }
+        }
+    }
+
+    /**
+     * Gets the number of stars across all layers.
+     *
+     * @return The number of stars.
+     */
+    public int getStarCount() {
+        return starCount;
+    }
+}
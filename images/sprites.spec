@@ -0,0 +1,6 @@
+# Sprites packed into sprites.png by spaceInvaders.View.AtlasBuilder.
+# Each line: <name> <width> <height> <frame image> [<frame image> ...]
+# The width and height are the size the sprite is drawn at. Give several images to make an animation.
+player 120 100 player.png
+enemy 120 100 enemy.png
+star 50 50 star.png